@@ -0,0 +1 @@
+create index idx_posts_created_at_id on posts (created_at, id);
@@ -0,0 +1,15 @@
+-- Post, User 의 id 는 pooled 최적화를 쓰는 테이블 생성기(allocationSize = 1000)로 발급된다.
+-- pooled 최적화는 읽어온 값 - 1000 + 1 부터 id 를 할당하므로, 기존 최대 id + 1000 을 시작값으로 둬야 충돌하지 않는다.
+create table id_generators
+(
+    name     varchar(255) not null primary key,
+    next_val bigint       not null
+);
+
+insert into id_generators (name, next_val)
+select 'users', coalesce(max(id), 0) + 1000
+from users;
+
+insert into id_generators (name, next_val)
+select 'posts', coalesce(max(id), 0) + 1000
+from posts;
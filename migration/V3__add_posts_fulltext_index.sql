@@ -0,0 +1,2 @@
+-- 한국어는 공백 단위로 단어를 나누기 어려워 ngram 파서로 색인한다.
+create fulltext index ft_posts_title_content on posts (title, content) with parser ngram;
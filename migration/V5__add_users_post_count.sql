@@ -0,0 +1,6 @@
+-- 사용자 목록에서 포스트 수를 보여줄 때 posts 를 읽지 않도록 비정규화한다.
+alter table users
+    add column post_count bigint not null default 0;
+
+update users u
+set u.post_count = (select count(*) from posts p where p.user_id = u.id);
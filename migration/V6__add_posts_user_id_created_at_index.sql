@@ -0,0 +1,3 @@
+-- 작성자별 포스트 목록(GET /users/{id}/posts)을 커버링 인덱스만으로 조회한다.
+-- user_id 로 시작하므로 외래 키 인덱스로도 쓰인다.
+create index idx_posts_user_id_created_at_id on posts (user_id, created_at, id, title);
@@ -0,0 +1,11 @@
+-- tinytext(255 바이트)에서 잘리던 본문을 mediumtext 로 넓히고, 목록 조회용 요약을 별도 컬럼에 둔다.
+-- 전문 검색 인덱스가 걸린 컬럼의 타입을 바꾸므로 테이블이 다시 만들어진다.
+alter table posts
+    modify column content mediumtext not null,
+    add column excerpt varchar(100) not null default '';
+
+update posts
+set excerpt = left(content, 100);
+
+alter table posts
+    alter column excerpt drop default;
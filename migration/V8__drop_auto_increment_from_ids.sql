@@ -0,0 +1,6 @@
+-- id 는 V2 부터 id_generators 테이블 생성기로만 발급한다. schema.sql 과 같도록 auto_increment 를 제거한다.
+alter table posts
+    modify id bigint not null;
+
+alter table users
+    modify id bigint not null;
@@ -1,9 +1,16 @@
+create table id_generators
+(
+    name     varchar(255) not null primary key,
+    next_val bigint       not null
+);
+
 create table users
 (
-    id         bigint       not null auto_increment primary key,
+    id         bigint       not null primary key,
     age        integer      not null,
     hobby      varchar(255),
     name       varchar(255) not null,
+    post_count bigint       not null default 0,
     created_at datetime(6)  not null,
     created_by varchar(255),
     updated_at datetime(6)  not null
@@ -11,12 +18,27 @@ create table users
 
 create table posts
 (
-    id         bigint       not null auto_increment primary key,
+    id         bigint       not null primary key,
     title      varchar(255) not null,
-    content    tinytext     not null,
+    content    mediumtext   not null,
+    excerpt    varchar(100) not null,
     created_at datetime(6)  not null,
     created_by varchar(255),
     updated_at datetime(6)  not null,
     user_id    bigint       not null,
-    foreign Key (user_id) references users (id) on delete restrict
+    foreign Key (user_id) references users (id) on delete restrict,
+    index idx_posts_created_at_id (created_at, id),
+    index idx_posts_user_id_created_at_id (user_id, created_at, id, title),
+    fulltext index ft_posts_title_content (title, content) with parser ngram
+);
+
+-- V2 마이그레이션과 같은 값으로 시작해 새로 만든 DB 와 마이그레이션한 DB 가 같은 id 를 발급하게 한다.
+insert into id_generators (name, next_val)
+values ('users', 1000),
+       ('posts', 1000);
+
+create table post_view_counts
+(
+    post_id    bigint not null primary key,
+    view_count bigint not null
 );
@@ -0,0 +1,52 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import java.time.LocalDateTime;
+
+final class BenchmarkFixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0, 0, 123_456_000);
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("user-" + id)
+                .age(20 + (int) (id % 40))
+                .hobby("hobby-" + id)
+                .build();
+    }
+
+    static Post post(long id, User user, int contentLength) {
+        return Post.builder()
+                .id(id)
+                .title("title-" + id)
+                .content(content(contentLength))
+                .user(user)
+                .build();
+    }
+
+    static PostResponse postResponse(long id, int contentLength) {
+        return PostResponse.builder()
+                .id(id)
+                .title("title-" + id)
+                .content(content(contentLength))
+                .authorName("user-" + id)
+                .createdAt(NOW.minusMinutes(id))
+                .build();
+    }
+
+    // 한글이 섞인 본문이어야 UTF-8 인코딩 비용까지 측정된다.
+    static String content(int length) {
+        StringBuilder builder = new StringBuilder(length);
+
+        while (builder.length() < length) {
+            builder.append("게시글 본문 content ");
+        }
+
+        return builder.substring(0, length);
+    }
+}
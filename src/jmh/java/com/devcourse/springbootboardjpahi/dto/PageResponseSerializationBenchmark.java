@@ -0,0 +1,58 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    int pageSize;
+
+    @Param({"100", "1000", "10000"})
+    int contentLength;
+
+    ObjectWriter writer;
+    PageResponse<PostResponse> pageResponse;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션의 ObjectMapper 와 같은 설정으로 직렬화한다.
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(TypeFactory.defaultInstance()
+                        .constructParametricType(PageResponse.class, PostResponse.class));
+
+        List<PostResponse> content = new ArrayList<>(pageSize);
+
+        for (int i = 0; i < pageSize; i++) {
+            content.add(BenchmarkFixtures.postResponse(i, contentLength));
+        }
+
+        pageResponse = PageResponse.<PostResponse>builder()
+                .isEmpty(false)
+                .totalPages(100)
+                .totalElements(pageSize * 100L)
+                .content(content)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] writePageResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,73 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "50", "200"})
+    int pageSize;
+
+    @Param({"100", "1000", "10000"})
+    int contentLength;
+
+    List<Post> posts;
+    List<User> users;
+    Page<Post> page;
+
+    @Setup
+    public void setUp() {
+        posts = new ArrayList<>(pageSize);
+        users = new ArrayList<>(pageSize);
+
+        for (int i = 0; i < pageSize; i++) {
+            User user = BenchmarkFixtures.user(i);
+
+            users.add(user);
+            posts.add(BenchmarkFixtures.post(i, user, contentLength));
+        }
+
+        page = new PageImpl<>(posts, PageRequest.of(0, pageSize), pageSize * 100L);
+    }
+
+    @Benchmark
+    public void postResponseFrom(Blackhole blackhole) {
+        for (Post post : posts) {
+            blackhole.consume(PostResponse.from(post));
+        }
+    }
+
+    @Benchmark
+    public void postDetailResponseFrom(Blackhole blackhole) {
+        for (Post post : posts) {
+            blackhole.consume(PostDetailResponse.from(post));
+        }
+    }
+
+    @Benchmark
+    public void userResponseFrom(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(UserResponse.from(user));
+        }
+    }
+
+    @Benchmark
+    public PageResponse<PostResponse> pageResponseFrom() {
+        return PageResponse.from(page.map(PostResponse::from));
+    }
+}
@@ -0,0 +1,58 @@
+package com.devcourse.springbootboardjpahi.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.util.List;
+import java.util.Random;
+
+record Fixture(
+        URI baseUri,
+        ObjectMapper objectMapper,
+        List<Long> userIds,
+        List<Long> postIds
+) {
+
+    static final int PAGE_SIZE = 10;
+
+    HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path));
+    }
+
+    HttpRequest.Builder jsonRequest(String path) {
+        return request(path).header("Content-Type", "application/json");
+    }
+
+    BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    long randomUserId(Random random) {
+        return userIds.get(random.nextInt(userIds.size()));
+    }
+
+    long randomPostId(Random random) {
+        return postIds.get(random.nextInt(postIds.size()));
+    }
+
+    int randomPage(Random random) {
+        return random.nextInt(Math.max(1, postIds.size() / PAGE_SIZE));
+    }
+
+    static String content(Random random) {
+        int length = 50 + random.nextInt(200);
+        StringBuilder builder = new StringBuilder(length);
+
+        while (builder.length() < length) {
+            builder.append("부하 테스트 본문 ");
+        }
+
+        return builder.substring(0, length);
+    }
+}
@@ -0,0 +1,125 @@
+package com.devcourse.springbootboardjpahi.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+
+    LoadTestReport() {
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new Recorder(3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    void record(Scenario scenario, long elapsedNanos, boolean succeeded) {
+        recorders.get(scenario).recordValue(elapsedNanos);
+
+        if (!succeeded) {
+            errors.get(scenario).increment();
+        }
+    }
+
+    void write(LoadTestSettings settings) {
+        Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+        Histogram total = new Histogram(3);
+
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = recorders.get(scenario).getIntervalHistogram();
+
+            histograms.put(scenario, histogram);
+            total.add(histogram);
+        }
+
+        try {
+            Files.createDirectories(settings.reportDir());
+
+            try (PrintStream summary = new PrintStream(
+                    Files.newOutputStream(settings.reportDir().resolve("summary.txt")), true, StandardCharsets.UTF_8)) {
+                printSummary(summary, settings, histograms, total);
+            }
+
+            for (Map.Entry<Scenario, Histogram> entry : histograms.entrySet()) {
+                Path file = settings.reportDir().resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                    entry.getValue().outputPercentileDistribution(out, NANOS_PER_MILLI);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        printSummary(System.out, settings, histograms, total);
+    }
+
+    static void writeImport(LoadTestSettings settings, long imported, long elapsedNanos) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        String line = String.format("# import rows=%d imported=%d elapsed=%.2fs rows/s=%.0f%n",
+                settings.importRows(), imported, seconds, imported / seconds);
+
+        try {
+            Files.createDirectories(settings.reportDir());
+            Files.writeString(settings.reportDir().resolve("import.txt"), line, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.out.print(line);
+    }
+
+    private void printSummary(PrintStream out, LoadTestSettings settings, Map<Scenario, Histogram> histograms,
+                              Histogram total) {
+        double seconds = settings.duration().toMillis() / 1000.0;
+
+        out.printf("# profiles=%s users=%d posts=%d concurrency=%d warmup=%ds duration=%ds%n",
+                settings.profiles(), settings.users(), settings.posts(), settings.concurrency(),
+                settings.warmup().toSeconds(), settings.duration().toSeconds());
+        out.printf("# latency in milliseconds%n");
+        out.printf("%-12s %8s %7s %9s %8s %8s %8s %8s %8s%n",
+                "scenario", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max");
+
+        long totalErrors = 0;
+
+        for (Scenario scenario : Scenario.values()) {
+            long errorCount = errors.get(scenario).sum();
+
+            totalErrors += errorCount;
+            printRow(out, scenario.name(), histograms.get(scenario), errorCount, seconds);
+        }
+
+        printRow(out, "TOTAL", total, totalErrors, seconds);
+    }
+
+    private void printRow(PrintStream out, String name, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-12s %8d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errorCount,
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
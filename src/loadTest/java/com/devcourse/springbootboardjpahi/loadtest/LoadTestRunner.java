@@ -0,0 +1,187 @@
+package com.devcourse.springbootboardjpahi.loadtest;
+
+import com.devcourse.springbootboardjpahi.SpringbootBoardJpaHiApplication;
+import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.service.PostService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class LoadTestRunner {
+
+    private final LoadTestSettings settings;
+    private final HttpClient httpClient;
+    private final Fixture fixture;
+
+    private LoadTestRunner(LoadTestSettings settings, HttpClient httpClient, Fixture fixture) {
+        this.settings = settings;
+        this.httpClient = httpClient;
+        this.fixture = fixture;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                SpringbootBoardJpaHiApplication.class)
+                .profiles("loadtest")
+                .profiles(settings.profiles().toArray(String[]::new))
+                .run("--server.port=0")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            Fixture fixture = seed(settings, httpClient,
+                    new Fixture(URI.create("http://localhost:" + port), objectMapper, List.of(), List.of()));
+
+            LoadTestRunner runner = new LoadTestRunner(settings, httpClient, fixture);
+
+            runner.run(settings.warmup(), null);
+
+            LoadTestReport report = new LoadTestReport();
+
+            runner.run(settings.duration(), report);
+            report.write(settings);
+
+            if (settings.importRows() > 0) {
+                measureImport(settings, httpClient, fixture);
+            }
+        }
+    }
+
+    // 가져오기는 한 요청이 오래 걸리는 작업이므로 지연 시간 분포 대신 초당 저장한 행 수를 잰다.
+    private static void measureImport(LoadTestSettings settings, HttpClient httpClient, Fixture fixture)
+            throws IOException, InterruptedException {
+        Random random = new Random(42);
+        StringBuilder body = new StringBuilder();
+
+        for (int i = 0; i < settings.importRows(); i++) {
+            CreatePostRequest post = new CreatePostRequest("import-" + i, Fixture.content(random),
+                    fixture.randomUserId(random));
+
+            body.append(fixture.objectMapper().writeValueAsString(post))
+                    .append('\n');
+        }
+
+        HttpRequest request = fixture.request("/api/v1/posts/import")
+                .header("Content-Type", "application/x-ndjson")
+                .POST(BodyPublishers.ofString(body.toString()))
+                .build();
+        long start = System.nanoTime();
+        JsonNode response = send(httpClient, fixture, request);
+        long elapsed = System.nanoTime() - start;
+
+        LoadTestReport.writeImport(settings, response.get("imported").asLong(), elapsed);
+    }
+
+    private static Fixture seed(LoadTestSettings settings, HttpClient httpClient, Fixture empty)
+            throws IOException, InterruptedException {
+        Random random = new Random(42);
+        List<Long> userIds = new ArrayList<>(settings.users());
+
+        for (int i = 0; i < settings.users(); i++) {
+            CreateUserRequest body = new CreateUserRequest("user-" + i, 20 + random.nextInt(40), "hobby-" + i);
+            JsonNode user = send(httpClient, empty, empty.jsonRequest("/api/v1/users")
+                    .POST(empty.json(body))
+                    .build());
+
+            userIds.add(user.get("id").asLong());
+        }
+
+        Fixture withUsers = new Fixture(empty.baseUri(), empty.objectMapper(), userIds, List.of());
+        List<Long> postIds = new ArrayList<>(settings.posts());
+
+        while (postIds.size() < settings.posts()) {
+            int chunk = Math.min(PostService.MAX_BATCH_SIZE, settings.posts() - postIds.size());
+            List<CreatePostRequest> batch = new ArrayList<>(chunk);
+
+            for (int i = 0; i < chunk; i++) {
+                batch.add(new CreatePostRequest("post-" + (postIds.size() + i), Fixture.content(random),
+                        withUsers.randomUserId(random)));
+            }
+
+            JsonNode posts = send(httpClient, withUsers, withUsers.jsonRequest("/api/v1/posts/batch")
+                    .POST(withUsers.json(batch))
+                    .build());
+
+            posts.forEach(post -> postIds.add(post.get("id").asLong()));
+        }
+
+        return new Fixture(empty.baseUri(), empty.objectMapper(), userIds, postIds);
+    }
+
+    private static JsonNode send(HttpClient httpClient, Fixture fixture, HttpRequest request)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, BodyHandlers.ofByteArray());
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("요청에 실패했습니다. " + request.uri() + " -> "
+                    + response.statusCode());
+        }
+
+        return fixture.objectMapper().readTree(response.body());
+    }
+
+    // 닫힌 루프로 요청을 보내므로 응답이 느려지면 요청 수도 줄어든다. 결과는 같은 설정끼리만 비교한다.
+    private void run(Duration duration, LoadTestReport report) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for (int i = 0; i < settings.concurrency(); i++) {
+            executor.execute(() -> {
+                Random random = ThreadLocalRandom.current();
+
+                while (System.nanoTime() < deadline) {
+                    Scenario scenario = Scenario.pick(random);
+                    HttpRequest request = scenario.request(fixture, random);
+                    long start = System.nanoTime();
+                    boolean succeeded = execute(request);
+                    long elapsed = System.nanoTime() - start;
+
+                    if (report != null) {
+                        report.record(scenario, elapsed, succeeded);
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        if (!executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean execute(HttpRequest request) {
+        try {
+            int status = httpClient.send(request, BodyHandlers.discarding())
+                    .statusCode();
+
+            return status / 100 == 2 || status == 304;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.devcourse.springbootboardjpahi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+record LoadTestSettings(
+        int users,
+        int posts,
+        int importRows,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        List<String> profiles,
+        Path reportDir
+) {
+
+    private static final String DEFAULT_LABEL = "platform-threads";
+
+    static LoadTestSettings fromSystemProperties() {
+        List<String> profiles = Arrays.stream(System.getProperty("loadtest.profiles", "").split(","))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .toList();
+        String label = profiles.isEmpty() ? DEFAULT_LABEL : String.join("+", profiles);
+
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.posts", 5_000),
+                Integer.getInteger("loadtest.import-rows", 100_000),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30)),
+                profiles,
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")).resolve(label));
+    }
+}
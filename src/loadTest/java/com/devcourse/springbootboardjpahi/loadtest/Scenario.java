@@ -0,0 +1,79 @@
+package com.devcourse.springbootboardjpahi.loadtest;
+
+import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.UpdatePostRequest;
+import java.net.http.HttpRequest;
+import java.util.Random;
+
+enum Scenario {
+
+    LIST_POSTS(30) {
+        @Override
+        HttpRequest request(Fixture fixture, Random random) {
+            return fixture.request("/api/v1/posts?page=" + fixture.randomPage(random) + "&size=" + Fixture.PAGE_SIZE)
+                    .GET()
+                    .build();
+        }
+    },
+    GET_POST(35) {
+        @Override
+        HttpRequest request(Fixture fixture, Random random) {
+            return fixture.request("/api/v1/posts/" + fixture.randomPostId(random))
+                    .GET()
+                    .build();
+        }
+    },
+    LIST_USERS(10) {
+        @Override
+        HttpRequest request(Fixture fixture, Random random) {
+            return fixture.request("/api/v1/users?size=" + Fixture.PAGE_SIZE)
+                    .GET()
+                    .build();
+        }
+    },
+    CREATE_POST(15) {
+        @Override
+        HttpRequest request(Fixture fixture, Random random) {
+            CreatePostRequest body = new CreatePostRequest("load-test", Fixture.content(random),
+                    fixture.randomUserId(random));
+
+            return fixture.jsonRequest("/api/v1/posts")
+                    .POST(fixture.json(body))
+                    .build();
+        }
+    },
+    UPDATE_POST(10) {
+        @Override
+        HttpRequest request(Fixture fixture, Random random) {
+            UpdatePostRequest body = new UpdatePostRequest("load-test-updated", Fixture.content(random));
+
+            return fixture.jsonRequest("/api/v1/posts/" + fixture.randomPostId(random))
+                    .PUT(fixture.json(body))
+                    .build();
+        }
+    };
+
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    abstract HttpRequest request(Fixture fixture, Random random);
+
+    static Scenario pick(Random random) {
+        int point = random.nextInt(TOTAL_WEIGHT);
+
+        for (Scenario scenario : values()) {
+            point -= scenario.weight;
+
+            if (point < 0) {
+                return scenario;
+            }
+        }
+
+        throw new IllegalStateException("시나리오 가중치의 합이 " + TOTAL_WEIGHT + " 이 아닙니다.");
+    }
+}
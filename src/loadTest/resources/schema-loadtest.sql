@@ -0,0 +1,5 @@
+create table if not exists post_view_counts
+(
+    post_id    bigint not null primary key,
+    view_count bigint not null
+);
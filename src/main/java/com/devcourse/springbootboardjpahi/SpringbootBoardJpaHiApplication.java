@@ -1,13 +1,23 @@
 package com.devcourse.springbootboardjpahi;
 
+import com.devcourse.springbootboardjpahi.service.BulkImportRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class SpringbootBoardJpaHiApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SpringbootBoardJpaHiApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringbootBoardJpaHiApplication.class);
+
+        // 가져오기 명령은 웹 서버 없이 실행하고 끝나면 종료 코드와 함께 종료한다.
+        if (BulkImportRunner.isImportCommand(args)) {
+            application.setWebApplicationType(WebApplicationType.NONE);
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+
+        application.run(args);
     }
 
 }
@@ -1,10 +1,17 @@
 package com.devcourse.springbootboardjpahi.advice;
 
+import com.devcourse.springbootboardjpahi.exception.IngestionRejectedException;
+import com.devcourse.springbootboardjpahi.exception.InvalidCursorException;
+import com.devcourse.springbootboardjpahi.exception.UnsupportedImportFormatException;
 import com.devcourse.springbootboardjpahi.message.ControllerAdviceExceptionMessage;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +36,21 @@ public class ControllerAdvice {
                 .body(errorResponse);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException e) {
+        String message = e.getConstraintViolations()
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(ControllerAdviceExceptionMessage.INVALID_ARGUMENT);
+
+        ErrorResponse errorResponse = new ErrorResponse(message);
+
+        return ResponseEntity.badRequest()
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<ErrorResponse> handleNoSuchElementException(NoSuchElementException e) {
         ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
@@ -36,4 +58,29 @@ public class ControllerAdvice {
         return ResponseEntity.badRequest()
                 .body(errorResponse);
     }
+
+    @ExceptionHandler(IngestionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleIngestionRejectedException(IngestionRejectedException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
+
+        return ResponseEntity.badRequest()
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(UnsupportedImportFormatException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedImportFormatException(UnsupportedImportFormatException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .body(errorResponse);
+    }
 }
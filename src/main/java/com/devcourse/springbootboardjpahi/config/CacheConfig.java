@@ -0,0 +1,50 @@
+package com.devcourse.springbootboardjpahi.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 캐시 적중 시 트랜잭션(커넥션 획득)을 시작하지 않도록 캐시 어드바이스를 트랜잭션보다 바깥에 둔다.
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String POST_DETAIL = "postDetail";
+    public static final String POST_VIEW_COUNT = "postViewCount";
+    public static final String USER_NAME = "userName";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${board.cache.post-detail.maximum-size}") long postDetailMaximumSize,
+            @Value("${board.cache.post-detail.expire-after-write}") Duration postDetailExpireAfterWrite,
+            @Value("${board.cache.post-view-count.maximum-size}") long postViewCountMaximumSize,
+            @Value("${board.cache.post-view-count.expire-after-write}") Duration postViewCountExpireAfterWrite,
+            @Value("${board.cache.user-name.maximum-size}") long userNameMaximumSize,
+            @Value("${board.cache.user-name.expire-after-write}") Duration userNameExpireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        cacheManager.registerCustomCache(POST_DETAIL, Caffeine.newBuilder()
+                .maximumSize(postDetailMaximumSize)
+                .expireAfterWrite(postDetailExpireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(POST_VIEW_COUNT, Caffeine.newBuilder()
+                .maximumSize(postViewCountMaximumSize)
+                .expireAfterWrite(postViewCountExpireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(USER_NAME, Caffeine.newBuilder()
+                .maximumSize(userNameMaximumSize)
+                .expireAfterWrite(userNameExpireAfterWrite)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,34 @@
+package com.devcourse.springbootboardjpahi.config;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceProxyConfig {
+
+    public static final String DATA_SOURCE_NAME = "board";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyBeanPostProcessor() {
+        return new DataSourceProxyBeanPostProcessor();
+    }
+
+    // 실행된 statement 를 스레드 단위로 세기 위해 DataSource 를 datasource-proxy 로 감싼다.
+    static class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                return ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, dataSource)
+                        .countQuery()
+                        .build();
+            }
+
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.devcourse.springbootboardjpahi.config;
+
+import com.devcourse.springbootboardjpahi.support.ReadWriteRoutingDataSource;
+import com.devcourse.springbootboardjpahi.support.ReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "board.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public ReplicaRouter replicaRouter(DataSourceProperties dataSourceProperties,
+                                       RoutingDataSourceProperties routingProperties,
+                                       Environment environment,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        configure(primary, "primary", environment, meterRegistry);
+
+        List<DataSource> replicas = new ArrayList<>();
+
+        for (int i = 0; i < routingProperties.replicas().size(); i++) {
+            RoutingDataSourceProperties.Replica properties = routingProperties.replicas().get(i);
+            HikariDataSource replica = new HikariDataSource();
+
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setJdbcUrl(properties.url());
+            replica.setUsername(properties.username());
+            replica.setPassword(properties.password());
+            configure(replica, "replica-" + i, environment, meterRegistry);
+            replicas.add(replica);
+        }
+
+        return new ReplicaRouter(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(replicaRouter));
+    }
+
+    // 모든 풀에 spring.datasource.hikari 설정을 똑같이 적용한다.
+    private void configure(HikariDataSource dataSource, String poolName, Environment environment,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder.get(environment)
+                .bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        meterRegistry.ifAvailable(registry ->
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.devcourse.springbootboardjpahi.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "board.datasource.routing")
+public record RoutingDataSourceProperties(
+        List<Replica> replicas
+) {
+
+    public RoutingDataSourceProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    public record Replica(
+            String url,
+            String username,
+            String password
+    ) {
+
+    }
+}
@@ -0,0 +1,42 @@
+package com.devcourse.springbootboardjpahi.config;
+
+import com.devcourse.springbootboardjpahi.metrics.RequestStatisticsHandlerInterceptor;
+import com.devcourse.springbootboardjpahi.metrics.StatementBudgetInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMetricsConfig implements WebMvcConfigurer {
+
+    private static final String API_PATH_PATTERN = "/api/**";
+    // 가져오기는 배치마다 statement 를 실행하므로 예산 대상에서 뺀다.
+    private static final String IMPORT_PATH_PATTERN = "/api/v1/*/import";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean statementBudgetEnabled;
+    private final long statementBudget;
+
+    public WebMetricsConfig(ObjectProvider<MeterRegistry> meterRegistry,
+                            @Value("${board.sql.statement-budget.enabled:false}") boolean statementBudgetEnabled,
+                            @Value("${board.sql.statement-budget.limit:20}") long statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudgetEnabled = statementBudgetEnabled;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        meterRegistry.ifAvailable(meters -> registry.addInterceptor(new RequestStatisticsHandlerInterceptor(meters))
+                .addPathPatterns(API_PATH_PATTERN));
+
+        if (statementBudgetEnabled) {
+            registry.addInterceptor(new StatementBudgetInterceptor(statementBudget))
+                    .addPathPatterns(API_PATH_PATTERN)
+                    .excludePathPatterns(IMPORT_PATH_PATTERN);
+        }
+    }
+}
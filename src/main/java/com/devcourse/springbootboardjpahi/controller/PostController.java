@@ -1,34 +1,105 @@
 package com.devcourse.springbootboardjpahi.controller;
 
 import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
 import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PatchPostRequest;
 import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
 import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.dto.SliceResponse;
 import com.devcourse.springbootboardjpahi.dto.UpdatePostRequest;
+import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
+import com.devcourse.springbootboardjpahi.service.BulkImportService;
+import com.devcourse.springbootboardjpahi.service.PostIngestionQueue;
+import com.devcourse.springbootboardjpahi.service.PostPageCache;
+import com.devcourse.springbootboardjpahi.service.PostPageCache.SerializedPage;
 import com.devcourse.springbootboardjpahi.service.PostService;
+import com.devcourse.springbootboardjpahi.service.PostViewCounter;
+import com.devcourse.springbootboardjpahi.support.AcceptEncoding;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import com.devcourse.springbootboardjpahi.support.NdjsonWriter;
+import com.devcourse.springbootboardjpahi.support.PostETag;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/posts")
 @RequiredArgsConstructor
+@Validated
 public class PostController {
 
     private final PostService postService;
+    private final PostViewCounter postViewCounter;
+    private final PostPageCache postPageCache;
+    private final Optional<PostIngestionQueue> postIngestionQueue;
+    private final ObjectMapper objectMapper;
+    private final BulkImportService bulkImportService;
 
     @GetMapping
-    public ResponseEntity<PageResponse<PostResponse>> find(Pageable pageable) {
-        PageResponse<PostResponse> page = postService.getPage(pageable);
+    public ResponseEntity<byte[]> find(Pageable pageable,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                       String acceptEncoding) {
+        SerializedPage page = postPageCache.get(pageable, () -> postService.getPage(pageable));
+
+        if (page.isEmpty()) {
+            return ResponseEntity.noContent()
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (page.gzipped() != null && AcceptEncoding.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(page.gzipped());
+        }
+
+        return response.body(page.json());
+    }
+
+    @GetMapping(params = "slice=true")
+    public ResponseEntity<SliceResponse<PostSummaryResponse>> findSlice(Pageable pageable) {
+        SliceResponse<PostSummaryResponse> slice = postService.getSlice(pageable);
+
+        if (slice.isEmpty()) {
+            return ResponseEntity.noContent()
+                    .build();
+        }
+
+        return ResponseEntity.ok(slice);
+    }
+
+    // slice=true 와 함께 오면 슬라이스 조회로 처리해 두 매핑이 동시에 선택되지 않게 한다.
+    @GetMapping(params = {"after", "!slice"})
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> findByCursor(
+            @RequestParam(required = false) String after, Pageable pageable) {
+        CursorResponse<PostSummaryResponse> page = postService.getCursorPage(after, pageable.getPageSize());
 
         if (page.isEmpty()) {
             return ResponseEntity.noContent()
@@ -38,26 +109,102 @@ public class PostController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<PostSummaryResponse>> search(
+            @RequestParam("q") @NotBlank(message = PostExceptionMessage.BLANK_QUERY) String query,
+            Pageable pageable) {
+        PageResponse<PostSummaryResponse> page = postService.search(query, pageable);
+
+        if (page.isEmpty()) {
+            return ResponseEntity.noContent()
+                    .build();
+        }
+
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            NdjsonWriter writer = new NdjsonWriter(outputStream, objectMapper);
+
+            postService.forEach(writer::write);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping
     public ResponseEntity<PostResponse> create(@Valid @RequestBody CreatePostRequest request) {
-        PostResponse post = postService.create(request);
+        PostResponse post = postIngestionQueue.map(queue -> queue.create(request))
+                .orElseGet(() -> postService.create(request));
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(post);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PostResponse>> createAll(
+            @RequestBody
+            @Size(min = 1, max = PostService.MAX_BATCH_SIZE, message = PostExceptionMessage.INVALID_BATCH_SIZE)
+            List<@Valid CreatePostRequest> requests) {
+        List<PostResponse> posts = postService.createAll(requests);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(posts);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<ImportResponse> importPosts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                      InputStream body) {
+        ImportFormat format = ImportFormat.of(MediaType.parseMediaType(contentType));
+        ImportResponse response = bulkImportService.importPosts(body, format);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<PostDetailResponse> findById(@PathVariable Long id) {
-        PostDetailResponse postDetailResponse = postService.findById(id);
+    public ResponseEntity<PostDetailResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String eTag = postService.getETag(id);
+
+            if (PostETag.matches(ifNoneMatch, eTag)) {
+                postViewCounter.increment(id);
 
-        return ResponseEntity.ok(postDetailResponse);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .build();
+            }
+        }
+
+        PostDetailResponse postDetailResponse = postViewCounter.view(postService.findById(id));
+
+        return ResponseEntity.ok()
+                .eTag(PostETag.of(postDetailResponse))
+                .body(postDetailResponse);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<PostDetailResponse> updateById(@PathVariable Long id,
                                                          @Valid @RequestBody UpdatePostRequest request) {
-        PostDetailResponse postDetailResponse = postService.updateById(id, request);
+        PostDetailResponse postDetailResponse = postViewCounter.count(postService.updateById(id, request));
+
+        return ResponseEntity.ok()
+                .eTag(PostETag.of(postDetailResponse))
+                .body(postDetailResponse);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<PostDetailResponse> patchById(@PathVariable Long id,
+                                                        @Valid @RequestBody PatchPostRequest request) {
+        PostDetailResponse postDetailResponse = postViewCounter.count(postService.patchById(id, request));
 
-        return ResponseEntity.ok(postDetailResponse);
+        return ResponseEntity.ok()
+                .eTag(PostETag.of(postDetailResponse))
+                .body(postDetailResponse);
     }
 }
@@ -1,18 +1,32 @@
 package com.devcourse.springbootboardjpahi.controller;
 
 import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
 import com.devcourse.springbootboardjpahi.dto.UserResponse;
+import com.devcourse.springbootboardjpahi.service.BulkImportService;
 import com.devcourse.springbootboardjpahi.service.UserService;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import com.devcourse.springbootboardjpahi.support.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -20,10 +34,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<UserResponse>> findAll() {
-        List<UserResponse> users = userService.findAll();
+    public ResponseEntity<CursorResponse<UserResponse>> find(@RequestParam(required = false) String after,
+                                                             Pageable pageable) {
+        CursorResponse<UserResponse> users = userService.getCursorPage(after, pageable.getPageSize());
 
         if (users.isEmpty()) {
             return ResponseEntity.noContent()
@@ -33,6 +50,42 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/{id}/posts")
+    public ResponseEntity<CursorResponse<UserPostResponse>> findPosts(@PathVariable Long id,
+                                                                      @RequestParam(required = false) String after,
+                                                                      Pageable pageable) {
+        CursorResponse<UserPostResponse> posts = userService.getPostCursorPage(id, after, pageable.getPageSize());
+
+        if (posts.isEmpty()) {
+            return ResponseEntity.noContent()
+                    .build();
+        }
+
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            NdjsonWriter writer = new NdjsonWriter(outputStream, objectMapper);
+
+            userService.forEach(writer::write);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<ImportResponse> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                      InputStream body) {
+        ImportFormat format = ImportFormat.of(MediaType.parseMediaType(contentType));
+        ImportResponse response = bulkImportService.importUsers(body, format);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<UserResponse> create(@Valid @RequestBody CreateUserRequest request) {
         UserResponse user = userService.create(request);
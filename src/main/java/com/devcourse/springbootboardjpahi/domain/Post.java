@@ -1,5 +1,6 @@
 package com.devcourse.springbootboardjpahi.domain;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -7,13 +8,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "posts")
@@ -21,19 +24,28 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Post extends BaseEntity {
 
+    public static final int EXCERPT_LENGTH = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "posts", allocationSize = 1000)
     private long id;
 
     @Column(name = "title", nullable = false)
     private String title;
 
-    @Column(name = "content", nullable = false)
-    @Lob
+    // 바이트코드 향상으로 실제로 읽을 때만 조회한다. 목록, 제목 수정, 존재 확인은 본문을 읽지 않는다.
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "content", nullable = false, columnDefinition = "mediumtext")
     private String content;
 
+    @Column(name = "excerpt", nullable = false, length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     private User user;
@@ -44,5 +56,19 @@ public class Post extends BaseEntity {
 
     public void updateContent(String content) {
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    public static String excerptOf(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        return content.substring(0, content.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+
+    @PrePersist
+    void initExcerpt() {
+        excerpt = excerptOf(content);
     }
 }
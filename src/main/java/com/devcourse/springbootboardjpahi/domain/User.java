@@ -7,11 +7,13 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "users")
@@ -22,7 +24,9 @@ import lombok.NoArgsConstructor;
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 1000)
     private long id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +38,11 @@ public class User extends BaseEntity {
     @Column(name = "hobby")
     private String hobby;
 
+    // 포스트 생성/삭제 시 벌크 연산으로만 갱신하고, 어긋난 값은 UserPostCountReconciler 가 바로잡는다.
+    @ColumnDefault("0")
+    @Column(name = "post_count", nullable = false, insertable = false, updatable = false)
+    private long postCount;
+
     @OneToMany(mappedBy = "user")
     private List<Post> posts;
 }
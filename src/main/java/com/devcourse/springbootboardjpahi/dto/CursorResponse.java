@@ -0,0 +1,30 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Builder;
+
+@Builder
+public record CursorResponse<T>(
+        Boolean isEmpty,
+        Boolean hasNext,
+        String nextCursor,
+        List<T> content
+) {
+
+    /**
+     * {@code size + 1}개까지 조회한 결과로 다음 페이지 존재 여부를 판단하고, 마지막 원소로 다음 커서를 만든다.
+     */
+    public static <E> CursorResponse<E> of(List<E> rows, int size, Function<E, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(size - 1)) : null;
+
+        return CursorResponse.<E>builder()
+                .isEmpty(content.isEmpty())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .content(content)
+                .build();
+    }
+}
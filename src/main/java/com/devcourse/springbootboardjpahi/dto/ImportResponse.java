@@ -0,0 +1,22 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import java.util.List;
+
+/**
+ * 가져오기 결과. 거절된 레코드가 있는 배치만 {@code failedBatches} 에 담는다.
+ * 행 번호는 1부터 세는 레코드 순번이며 CSV 헤더는 세지 않는다.
+ */
+public record ImportResponse(
+        long read,
+        long imported,
+        long rejected,
+        boolean completed,
+        List<Batch> failedBatches
+) {
+
+    public record Batch(int batch, long fromRow, long toRow, int imported, List<Rejection> rejections) {
+    }
+
+    public record Rejection(long row, String message) {
+    }
+}
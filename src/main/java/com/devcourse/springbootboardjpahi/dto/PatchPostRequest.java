@@ -0,0 +1,19 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertFalse;
+import jakarta.validation.constraints.Pattern;
+
+public record PatchPostRequest(
+        @Pattern(regexp = "(?s).*\\S.*", message = PostExceptionMessage.BLANK_TITLE)
+        String title,
+        String content
+) {
+
+    @JsonIgnore
+    @AssertFalse(message = PostExceptionMessage.EMPTY_PATCH)
+    public boolean isEmpty() {
+        return title == null && content == null;
+    }
+}
@@ -12,9 +12,22 @@ public record PostDetailResponse(
         String content,
         String authorName,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long viewCount
 ) {
 
+    // 조회수는 자주 바뀌므로 캐시되는 상세 정보에 담지 않고 응답 직전에 채운다.
+    public PostDetailResponse(Long id, String title, String content, String authorName, LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+        this(id, title, content, authorName, createdAt, updatedAt, null);
+    }
+
+    // 본문을 읽지 않는 조회용. content 는 null 로 둔다.
+    public PostDetailResponse(Long id, String title, String authorName, LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+        this(id, title, null, authorName, createdAt, updatedAt);
+    }
+
     public static PostDetailResponse from(Post post) {
         User author = post.getUser();
 
@@ -27,4 +40,28 @@ public record PostDetailResponse(
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
+
+    public PostDetailResponse patch(String title, String content, LocalDateTime updatedAt) {
+        return PostDetailResponse.builder()
+                .id(id)
+                .title(title == null ? this.title : title)
+                .content(content == null ? this.content : content)
+                .authorName(authorName)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .viewCount(viewCount)
+                .build();
+    }
+
+    public PostDetailResponse withViewCount(long viewCount) {
+        return PostDetailResponse.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .authorName(authorName)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .viewCount(viewCount)
+                .build();
+    }
 }
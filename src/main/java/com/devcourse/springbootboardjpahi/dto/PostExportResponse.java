@@ -0,0 +1,16 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record PostExportResponse(
+        Long id,
+        String title,
+        String content,
+        Long userId,
+        String authorName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -17,11 +17,15 @@ public record PostResponse(
     public static PostResponse from(Post post) {
         User author = post.getUser();
 
+        return of(post, author.getName());
+    }
+
+    public static PostResponse of(Post post, String authorName) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
-                .authorName(author.getName())
+                .authorName(authorName)
                 .createdAt(post.getCreatedAt())
                 .build();
     }
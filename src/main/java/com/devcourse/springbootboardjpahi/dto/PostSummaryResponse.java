@@ -0,0 +1,17 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record PostSummaryResponse(
+        Long id,
+        String title,
+        String excerpt,
+        String authorName,
+        LocalDateTime createdAt
+) {
+
+    public static final int EXCERPT_LENGTH = Post.EXCERPT_LENGTH;
+}
@@ -0,0 +1,23 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import java.util.List;
+import lombok.Builder;
+import org.springframework.data.domain.Slice;
+
+@Builder
+public record SliceResponse<T>(
+        Boolean isEmpty,
+        Boolean hasNext,
+        Long approximateTotalElements,
+        List<T> content
+) {
+
+    public static <E> SliceResponse<E> from(Slice<E> slice, Long approximateTotalElements) {
+        return SliceResponse.<E>builder()
+                .isEmpty(slice.isEmpty())
+                .hasNext(slice.hasNext())
+                .approximateTotalElements(approximateTotalElements)
+                .content(slice.getContent())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.devcourse.springbootboardjpahi.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record UserPostResponse(
+        Long id,
+        String title,
+        LocalDateTime createdAt
+) {
+}
@@ -10,7 +10,8 @@ public record UserResponse(
         String name,
         Integer age,
         String hobby,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        Long postCount
 ) {
 
     public static UserResponse from(User user) {
@@ -20,6 +21,7 @@ public record UserResponse(
                 .age(user.getAge())
                 .hobby(user.getHobby())
                 .createdAt(user.getCreatedAt())
+                .postCount(user.getPostCount())
                 .build();
     }
 }
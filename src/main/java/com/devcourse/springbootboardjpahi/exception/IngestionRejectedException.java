@@ -0,0 +1,8 @@
+package com.devcourse.springbootboardjpahi.exception;
+
+public class IngestionRejectedException extends RuntimeException {
+
+    public IngestionRejectedException(String message) {
+        super(message);
+    }
+}
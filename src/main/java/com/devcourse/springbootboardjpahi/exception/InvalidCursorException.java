@@ -0,0 +1,14 @@
+package com.devcourse.springbootboardjpahi.exception;
+
+import com.devcourse.springbootboardjpahi.message.CursorExceptionMessage;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super(CursorExceptionMessage.INVALID_CURSOR);
+    }
+
+    public InvalidCursorException(Throwable cause) {
+        super(CursorExceptionMessage.INVALID_CURSOR, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.devcourse.springbootboardjpahi.exception;
+
+import com.devcourse.springbootboardjpahi.message.ImportExceptionMessage;
+
+public class UnsupportedImportFormatException extends RuntimeException {
+
+    public UnsupportedImportFormatException() {
+        super(ImportExceptionMessage.UNSUPPORTED_FORMAT);
+    }
+}
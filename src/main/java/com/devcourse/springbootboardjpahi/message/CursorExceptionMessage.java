@@ -0,0 +1,10 @@
+package com.devcourse.springbootboardjpahi.message;
+
+public final class CursorExceptionMessage {
+
+    public final static String INVALID_CURSOR = "유효하지 않은 커서 입니다.";
+
+    private CursorExceptionMessage() {
+        // Don't let anyone instantiate this class.
+    }
+}
@@ -0,0 +1,13 @@
+package com.devcourse.springbootboardjpahi.message;
+
+public final class ImportExceptionMessage {
+
+    public final static String UNSUPPORTED_FORMAT = "NDJSON 또는 CSV 형식만 가져올 수 있습니다.";
+    public final static String INVALID_RECORD = "레코드를 해석할 수 없습니다.";
+    public final static String MALFORMED_INPUT = "입력을 더 이상 읽을 수 없어 가져오기를 중단했습니다.";
+    public final static String WRITE_FAILED = "레코드를 저장하지 못했습니다.";
+
+    private ImportExceptionMessage() {
+        // Don't let anyone instantiate this class.
+    }
+}
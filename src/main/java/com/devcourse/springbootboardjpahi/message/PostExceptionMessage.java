@@ -7,6 +7,11 @@ public final class PostExceptionMessage {
     public final static String INVALID_USER_ID = "유효하지 않은 유저 아이디 입니다.";
     public final static String NO_SUCH_USER = "존재하지 않는 유저 입니다.";
     public final static String NO_SUCH_POST = "존재하지 않는 게시글 입니다.";
+    public final static String EMPTY_PATCH = "수정할 항목이 없습니다.";
+    public final static String BLANK_QUERY = "검색어는 공백일 수 없습니다.";
+    public final static String INGESTION_QUEUE_FULL = "요청이 많아 게시글을 생성하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+    public final static String INGESTION_TIMEOUT = "게시글 생성 대기 시간이 지나 요청을 취소했습니다. 잠시 후 다시 시도해 주세요.";
+    public final static String INVALID_BATCH_SIZE = "한 번에 생성할 수 있는 게시글 수는 1개 이상 1000개 이하 입니다.";
 
     private PostExceptionMessage() {
         // Don't let anyone instantiate this class.
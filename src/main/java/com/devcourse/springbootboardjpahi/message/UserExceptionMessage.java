@@ -4,6 +4,7 @@ public final class UserExceptionMessage {
 
     public final static String BLANK_NAME = "이름은 공백일 수 없습니다.";
     public final static String NEGATIVE_AGE = "나이는 음수일 수 없습니다.";
+    public final static String NO_SUCH_USER = "존재하지 않는 유저 입니다.";
 
     private UserExceptionMessage() {
         // Don't let anyone instantiate this class.
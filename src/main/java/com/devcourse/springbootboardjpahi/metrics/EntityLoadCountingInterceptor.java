@@ -0,0 +1,15 @@
+package com.devcourse.springbootboardjpahi.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestStatistics.current()
+                .ifPresent(RequestStatistics::entityLoaded);
+
+        return false;
+    }
+}
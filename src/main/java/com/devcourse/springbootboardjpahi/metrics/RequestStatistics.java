@@ -0,0 +1,73 @@
+package com.devcourse.springbootboardjpahi.metrics;
+
+import java.util.Optional;
+
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entityLoads;
+    private long cacheHits;
+    private long cacheMisses;
+    private long queryMaxNanos;
+
+    private RequestStatistics() {
+    }
+
+    public static void start() {
+        CURRENT.set(new RequestStatistics());
+    }
+
+    public static Optional<RequestStatistics> finish() {
+        RequestStatistics statistics = CURRENT.get();
+
+        CURRENT.remove();
+
+        return Optional.ofNullable(statistics);
+    }
+
+    static Optional<RequestStatistics> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void queryExecuted(long elapsedNanos) {
+        queryMaxNanos = Math.max(queryMaxNanos, elapsedNanos);
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void cacheAccessed(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public long getQueryMaxNanos() {
+        return queryMaxNanos;
+    }
+}
@@ -0,0 +1,68 @@
+package com.devcourse.springbootboardjpahi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@RequiredArgsConstructor
+public class RequestStatisticsHandlerInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestStatistics.start();
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestStatistics.finish()
+                .ifPresent(statistics -> record(request, statistics));
+    }
+
+    // 비동기 응답은 다른 스레드에서 이어지므로 요청 스레드에 남은 통계를 여기서 정리한다.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        RequestStatistics.finish()
+                .ifPresent(statistics -> record(request, statistics));
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("uri", pattern == null ? UNKNOWN_URI : pattern.toString(),
+                "method", request.getMethod());
+
+        DistributionSummary.builder("board.hibernate.statements")
+                .description("Hibernate 가 요청 하나에서 준비한 JDBC statement 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("board.hibernate.entities.loaded")
+                .description("요청 하나에서 로딩된 엔티티 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getEntityLoads());
+        meterRegistry.counter("board.hibernate.second.level.cache.requests", tags.and("result", "hit"))
+                .increment(statistics.getCacheHits());
+        meterRegistry.counter("board.hibernate.second.level.cache.requests", tags.and("result", "miss"))
+                .increment(statistics.getCacheMisses());
+        Timer.builder("board.hibernate.query.execution.max")
+                .description("요청 하나에서 가장 오래 걸린 쿼리 실행 시간")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getQueryMaxNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,34 @@
+package com.devcourse.springbootboardjpahi.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+// hibernate.session.events.auto 로 등록되어 세션마다 새로 생성된다.
+public class RequestStatisticsSessionListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        RequestStatistics.current()
+                .ifPresent(RequestStatistics::statementPrepared);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        long elapsed = System.nanoTime() - executionStart;
+
+        RequestStatistics.current()
+                .ifPresent(statistics -> statistics.queryExecuted(elapsed));
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestStatistics.current()
+                .ifPresent(statistics -> statistics.cacheAccessed(hit));
+    }
+}
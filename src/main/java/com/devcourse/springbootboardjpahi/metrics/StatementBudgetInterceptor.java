@@ -0,0 +1,43 @@
+package com.devcourse.springbootboardjpahi.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Slf4j
+@RequiredArgsConstructor
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final long limit;
+
+    // 요청이 끝난 뒤에도 카운트를 남겨 두어 테스트에서 바로 확인할 수 있게 한다.
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountHolder.clear();
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+
+        if (count.getTotal() > limit) {
+            log.warn("SQL statement budget exceeded: {} {} issued {} statements "
+                            + "(select={}, insert={}, update={}, delete={}, budget={})",
+                    request.getMethod(), request.getRequestURI(), count.getTotal(),
+                    count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(), limit);
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        QueryCountHolder.clear();
+    }
+}
@@ -0,0 +1,146 @@
+package com.devcourse.springbootboardjpahi.repository;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 엔티티를 거치지 않고 JDBC 배치로 유저와 포스트를 저장한다.
+ * rewriteBatchedStatements 옵션과 함께 쓰면 배치 하나가 여러 행을 담은 insert 문 하나로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkInsertRepository {
+
+    // User, Post 의 @TableGenerator allocationSize 와 같아야 한다.
+    private static final int ALLOCATION_SIZE = 1000;
+
+    private static final String INSERT_USER = """
+            insert into users (id, name, age, hobby, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_POST = """
+            insert into posts (id, title, content, excerpt, user_id, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String ADD_POST_COUNT = "update users set post_count = post_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveUserIds(int count) {
+        return reserveIds("users", count);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reservePostIds(int count) {
+        return reserveIds("posts", count);
+    }
+
+    @Transactional
+    public void insertUsers(List<CreateUserRequest> users, long firstId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(INSERT_USER, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                CreateUserRequest user = users.get(i);
+
+                statement.setLong(1, firstId + i);
+                statement.setString(2, user.name());
+                statement.setObject(3, user.age(), Types.INTEGER);
+                statement.setString(4, user.hobby());
+                statement.setTimestamp(5, timestamp);
+                statement.setTimestamp(6, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return users.size();
+            }
+        });
+    }
+
+    // 포스트와 작성자의 포스트 수를 같은 트랜잭션에서 반영한다.
+    @Transactional
+    public void insertPosts(List<CreatePostRequest> posts, long firstId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(INSERT_POST, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                CreatePostRequest post = posts.get(i);
+
+                statement.setLong(1, firstId + i);
+                statement.setString(2, post.title());
+                statement.setString(3, post.content());
+                statement.setString(4, Post.excerptOf(post.content()));
+                statement.setLong(5, post.userId());
+                statement.setTimestamp(6, timestamp);
+                statement.setTimestamp(7, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return posts.size();
+            }
+        });
+
+        // 작성자 행 잠금 순서를 고정해 동시에 들어온 배치끼리 교착되지 않게 한다.
+        Map<Long, Long> postCounts = posts.stream()
+                .collect(Collectors.groupingBy(CreatePostRequest::userId, TreeMap::new, Collectors.counting()));
+
+        jdbcTemplate.batchUpdate(ADD_POST_COUNT, postCounts.entrySet(), postCounts.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+    }
+
+    // Hibernate 의 pooled 최적화와 같은 방식으로 블록을 가져간다.
+    // 읽은 값이 v 이면 v - ALLOCATION_SIZE + 1 부터 쓰고, 다음 블록의 상한을 기록해 둔다.
+    private long reserveIds(String name, int count) {
+        int blocks = Math.max(1, (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE);
+        long nextValue = lockNextValue(name);
+
+        jdbcTemplate.update("update id_generators set next_val = ? where name = ?",
+                nextValue + (long) blocks * ALLOCATION_SIZE, name);
+
+        return nextValue - ALLOCATION_SIZE + 1;
+    }
+
+    private long lockNextValue(String name) {
+        List<Long> values = jdbcTemplate.queryForList(
+                "select next_val from id_generators where name = ? for update", Long.class, name);
+
+        if (!values.isEmpty()) {
+            return values.get(0);
+        }
+
+        // 아직 한 번도 id 를 발급하지 않았다면 V2 마이그레이션과 같은 값으로 시작한다.
+        try {
+            jdbcTemplate.update("insert into id_generators (name, next_val) select ?, coalesce(max(id), 0) + "
+                    + ALLOCATION_SIZE + " from " + name, name);
+        } catch (DuplicateKeyException e) {
+            // 동시에 다른 쪽이 먼저 만들었다.
+        }
+
+        return jdbcTemplate.queryForObject(
+                "select next_val from id_generators where name = ? for update", Long.class, name);
+    }
+}
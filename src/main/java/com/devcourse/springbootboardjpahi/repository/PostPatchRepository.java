@@ -0,0 +1,8 @@
+package com.devcourse.springbootboardjpahi.repository;
+
+import java.time.LocalDateTime;
+
+public interface PostPatchRepository {
+
+    int patch(long id, String title, String content, LocalDateTime updatedAt);
+}
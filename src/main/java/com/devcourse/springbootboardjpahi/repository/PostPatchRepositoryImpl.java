@@ -0,0 +1,38 @@
+package com.devcourse.springbootboardjpahi.repository;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PostPatchRepositoryImpl implements PostPatchRepository {
+
+    private final EntityManager entityManager;
+
+    // null 인 필드는 SET 절에서 빠지므로 바뀌지 않은 컬럼, 특히 content 는 다시 쓰지 않는다.
+    @Override
+    public int patch(long id, String title, String content, LocalDateTime updatedAt) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Post> update = criteriaBuilder.createCriteriaUpdate(Post.class);
+        Root<Post> post = update.from(Post.class);
+
+        if (title != null) {
+            update.set(post.<String>get("title"), title);
+        }
+
+        if (content != null) {
+            update.set(post.<String>get("content"), content)
+                    .set(post.<String>get("excerpt"), Post.excerptOf(content));
+        }
+
+        update.set(post.<LocalDateTime>get("updatedAt"), updatedAt)
+                .where(criteriaBuilder.equal(post.get("id"), id));
+
+        return entityManager.createQuery(update)
+                .executeUpdate();
+    }
+}
@@ -1,7 +1,115 @@
 package com.devcourse.springbootboardjpahi.repository;
 
 import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import com.devcourse.springbootboardjpahi.dto.PostExportResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostPatchRepository {
+
+    String SUMMARY_SELECT = "select new com.devcourse.springbootboardjpahi.dto.PostSummaryResponse("
+            + "p.id, p.title, p.excerpt, u.name, p.createdAt) "
+            + "from Post p join p.user u ";
+
+    // idx_posts_user_id_created_at_id 만으로 조회와 정렬이 끝나도록 인덱스에 있는 컬럼만 읽는다.
+    String USER_POST_SELECT = "select new com.devcourse.springbootboardjpahi.dto.UserPostResponse("
+            + "p.id, p.title, p.createdAt) "
+            + "from Post p ";
+
+    String FULLTEXT_MATCH = "match(p.title, p.content) against (:query in natural language mode)";
+
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "select count(p) from Post p")
+    Page<PostSummaryResponse> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT)
+    Slice<PostSummaryResponse> findSummarySlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + """
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostSummaryResponse> findLatest(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + """
+            where p.createdAt <= :createdAt
+              and (p.createdAt < :createdAt or p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostSummaryResponse> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") long id,
+                                               Pageable pageable);
+
+    @Query(USER_POST_SELECT + """
+            where p.user.id = :userId
+            order by p.createdAt desc, p.id desc
+            """)
+    List<UserPostResponse> findLatestByUserId(@Param("userId") long userId, Pageable pageable);
+
+    @Query(USER_POST_SELECT + """
+            where p.user.id = :userId
+              and p.createdAt <= :createdAt
+              and (p.createdAt < :createdAt or p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<UserPostResponse> findLatestByUserIdBefore(@Param("userId") long userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") long id,
+                                                    Pageable pageable);
+
+    @Query(value = "select p.id as id, p.title as title, "
+            + "p.excerpt as excerpt, "
+            + "u.name as authorName, p.created_at as createdAt "
+            + "from posts p join users u on u.id = p.user_id "
+            + "where " + FULLTEXT_MATCH + " "
+            + "order by " + FULLTEXT_MATCH + " desc, p.id desc",
+            countQuery = "select count(*) from posts p where " + FULLTEXT_MATCH,
+            nativeQuery = true)
+    Page<PostSummaryRow> search(@Param("query") String query, Pageable pageable);
+
+    @Query("""
+            select new com.devcourse.springbootboardjpahi.dto.PostDetailResponse(
+                p.id, p.title, p.content, u.name, p.createdAt, p.updatedAt)
+            from Post p join p.user u
+            where p.id = :id
+            """)
+    Optional<PostDetailResponse> findDetailById(@Param("id") long id);
+
+    @Query("""
+            select new com.devcourse.springbootboardjpahi.dto.PostDetailResponse(
+                p.id, p.title, u.name, p.createdAt, p.updatedAt)
+            from Post p join p.user u
+            where p.id = :id
+            """)
+    Optional<PostDetailResponse> findDetailWithoutContentById(@Param("id") long id);
+
+    // 엔티티가 아닌 DTO 로 읽으므로 영속성 컨텍스트에 아무것도 쌓이지 않는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.devcourse.springbootboardjpahi.dto.PostExportResponse(
+                p.id, p.title, p.content, u.id, u.name, p.createdAt, p.updatedAt)
+            from Post p join p.user u
+            order by p.id
+            """)
+    Stream<PostExportResponse> streamAllForExport();
+
+    @EntityGraph(attributePaths = "user")
+    Optional<Post> findWithUserById(long id);
+
+    @Query("select p.updatedAt from Post p where p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") long id);
 }
@@ -0,0 +1,16 @@
+package com.devcourse.springbootboardjpahi.repository;
+
+import java.time.LocalDateTime;
+
+public interface PostSummaryRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    String getAuthorName();
+
+    LocalDateTime getCreatedAt();
+}
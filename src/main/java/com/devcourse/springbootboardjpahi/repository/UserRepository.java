@@ -1,9 +1,59 @@
 package com.devcourse.springbootboardjpahi.repository;
 
+import com.devcourse.springbootboardjpahi.config.CacheConfig;
 import com.devcourse.springbootboardjpahi.domain.User;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @Cacheable(cacheNames = CacheConfig.USER_NAME, key = "#p0", unless = "#result == null")
+    @Query("select u.name from User u where u.id = :id")
+    Optional<String> findNameById(@Param("id") long id);
+
+    @Query("select u.id from User u where u.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u")
+    Stream<User> streamAll();
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.postCount = u.postCount + :delta where u.id = :id")
+    int addPostCount(@Param("id") long id, @Param("delta") long delta);
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    long findMaxId();
+
+    // Connector/J 는 바뀐 행이 아닌 일치한 행 수를 돌려주므로, 실제로 어긋난 행만 조건에 걸리게 한다.
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update users u
+            set u.post_count = (select count(*) from posts p where p.user_id = u.id)
+            where u.id between :fromId and :toId
+            and u.post_count <> (select count(*) from posts p where p.user_id = u.id)
+            """, nativeQuery = true)
+    int reconcilePostCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
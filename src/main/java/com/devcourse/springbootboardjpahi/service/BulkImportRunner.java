@@ -0,0 +1,87 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code --import.users=<파일>}, {@code --import.posts=<파일>} 인자가 있으면 파일을 가져온 뒤 애플리케이션을 종료한다.
+ * 형식은 확장자(.ndjson, .csv)로 정하고, 거절된 레코드가 하나라도 있으면 종료 코드 1을 반환한다.
+ * 이때 애플리케이션은 웹 서버 없이 시작되며 종료 코드는 {@link ExitCodeGenerator} 로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImportRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final String USERS_OPTION = "import.users";
+    private static final String POSTS_OPTION = "import.posts";
+
+    private final BulkImportService bulkImportService;
+    private int exitCode;
+
+    public static boolean isImportCommand(String... args) {
+        return Arrays.stream(args)
+                .anyMatch(arg -> arg.startsWith("--" + USERS_OPTION) || arg.startsWith("--" + POSTS_OPTION));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(USERS_OPTION) && !args.containsOption(POSTS_OPTION)) {
+            return;
+        }
+
+        boolean succeeded = true;
+
+        for (String file : optionValues(args, USERS_OPTION)) {
+            succeeded &= importFile(Path.of(file), bulkImportService::importUsers);
+        }
+
+        for (String file : optionValues(args, POSTS_OPTION)) {
+            succeeded &= importFile(Path.of(file), bulkImportService::importPosts);
+        }
+
+        exitCode = succeeded ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private List<String> optionValues(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+
+        return values == null ? List.of() : values;
+    }
+
+    private boolean importFile(Path path, BiFunction<InputStream, ImportFormat, ImportResponse> importer)
+            throws IOException {
+        ImportResponse response;
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            response = importer.apply(inputStream, ImportFormat.of(path));
+        }
+
+        log.info("Imported {}: read={}, imported={}, rejected={}, completed={}",
+                path, response.read(), response.imported(), response.rejected(), response.completed());
+        response.failedBatches()
+                .forEach(batch -> batch.rejections()
+                        .forEach(rejection -> log.warn("{} batch {} row {}: {}",
+                                path, batch.batch(), rejection.row(), rejection.message())));
+
+        return response.completed() && response.rejected() == 0;
+    }
+}
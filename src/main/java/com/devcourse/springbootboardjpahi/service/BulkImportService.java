@@ -0,0 +1,285 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Batch;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Rejection;
+import com.devcourse.springbootboardjpahi.message.ImportExceptionMessage;
+import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
+import com.devcourse.springbootboardjpahi.repository.BulkInsertRepository;
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * NDJSON, CSV 입력을 한 레코드씩 읽어 검증한 뒤 배치 단위로 JDBC 로 저장한다.
+ * 메모리에는 배치 하나와 거절된 레코드가 있는 배치의 보고서만 남는다.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final Validator validator;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxReportedBatches;
+
+    public BulkImportService(ObjectMapper objectMapper,
+                             Validator validator,
+                             BulkInsertRepository bulkInsertRepository,
+                             UserRepository userRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${board.import.batch-size:1000}") int batchSize,
+                             @Value("${board.import.max-reported-batches:100}") int maxReportedBatches) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL, CsvParser.Feature.SKIP_EMPTY_LINES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.validator = validator;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxReportedBatches = maxReportedBatches;
+    }
+
+    public ImportResponse importUsers(InputStream inputStream, ImportFormat format) {
+        return importAll(inputStream, format, CreateUserRequest.class, this::writeUsers);
+    }
+
+    public ImportResponse importPosts(InputStream inputStream, ImportFormat format) {
+        ImportResponse response = importAll(inputStream, format, CreatePostRequest.class, this::writePosts);
+
+        if (response.imported() > 0) {
+            eventPublisher.publishEvent(new PostChangedEvent());
+        }
+
+        return response;
+    }
+
+    private <T> ImportResponse importAll(InputStream inputStream, ImportFormat format, Class<T> type,
+                                         BatchWriter<T> writer) {
+        Report report = new Report(maxReportedBatches);
+        List<Row<T>> rows = new ArrayList<>(batchSize);
+        List<Rejection> rejections = new ArrayList<>();
+        long row = 0;
+        boolean completed = true;
+
+        try (MappingIterator<T> records = open(inputStream, format, type)) {
+            while (records.hasNextValue()) {
+                long next = row + 1;
+
+                read(records, next, rows, rejections);
+                row = next;
+
+                if (rows.size() + rejections.size() == batchSize) {
+                    flush(report, row, rows, rejections, writer);
+                }
+            }
+        } catch (IOException e) {
+            // 문법 오류 뒤로는 레코드의 경계를 알 수 없으므로 여기서 멈춘다.
+            row++;
+            log.warn("Stopped importing {} at row {}", type.getSimpleName(), row, e);
+            rejections.add(new Rejection(row, ImportExceptionMessage.MALFORMED_INPUT));
+            completed = false;
+        }
+
+        if (!rows.isEmpty() || !rejections.isEmpty()) {
+            flush(report, row, rows, rejections, writer);
+        }
+
+        return report.toResponse(row, completed);
+    }
+
+    private <T> void flush(Report report, long toRow, List<Row<T>> rows, List<Rejection> rejections,
+                           BatchWriter<T> writer) {
+        int written = writer.write(rows, rejections);
+
+        report.add(toRow, written, rejections);
+        rows.clear();
+        rejections.clear();
+    }
+
+    private <T> MappingIterator<T> open(InputStream inputStream, ImportFormat format, Class<T> type)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(type)
+                    .readValues(inputStream);
+            case CSV -> csvMapper.readerFor(type)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(inputStream);
+        };
+    }
+
+    // 값 매핑 오류는 해당 레코드만 건너뛰고 다음 레코드부터 계속 읽는다.
+    private <T> void read(MappingIterator<T> records, long row, List<Row<T>> rows, List<Rejection> rejections)
+            throws IOException {
+        T record;
+
+        try {
+            record = records.nextValue();
+        } catch (DatabindException e) {
+            rejections.add(new Rejection(row, ImportExceptionMessage.INVALID_RECORD));
+
+            return;
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(record);
+
+        if (violations.isEmpty()) {
+            rows.add(new Row<>(row, record));
+
+            return;
+        }
+
+        String message = violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(ImportExceptionMessage.INVALID_RECORD);
+
+        rejections.add(new Rejection(row, message));
+    }
+
+    private int writeUsers(List<Row<CreateUserRequest>> rows, List<Rejection> rejections) {
+        return write(rows, rejections, bulkInsertRepository::reserveUserIds, bulkInsertRepository::insertUsers);
+    }
+
+    private int writePosts(List<Row<CreatePostRequest>> rows, List<Rejection> rejections) {
+        Set<Long> authorIds = rows.stream()
+                .map(row -> row.value().userId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingAuthorIds = authorIds.isEmpty() ? Set.of() : userRepository.findExistingIds(authorIds);
+        List<Row<CreatePostRequest>> writable = new ArrayList<>(rows.size());
+
+        for (Row<CreatePostRequest> row : rows) {
+            Long userId = row.value().userId();
+
+            if (userId != null && existingAuthorIds.contains(userId)) {
+                writable.add(row);
+            } else {
+                rejections.add(new Rejection(row.row(), PostExceptionMessage.NO_SUCH_USER));
+            }
+        }
+
+        return write(writable, rejections, bulkInsertRepository::reservePostIds, bulkInsertRepository::insertPosts);
+    }
+
+    // 배치 전체가 실패하면 같은 id 로 한 건씩 다시 저장해 문제가 있는 레코드만 거절한다.
+    private <T> int write(List<Row<T>> rows, List<Rejection> rejections, IdReserver reserver, Inserter<T> inserter) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        long firstId = reserver.reserve(rows.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            inserter.insert(rows.stream().map(Row::value).toList(), firstId, now);
+
+            return rows.size();
+        } catch (DataAccessException e) {
+            log.warn("Failed to insert a batch of {} rows from row {}, retrying one by one",
+                    rows.size(), rows.get(0).row(), e);
+        }
+
+        int written = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row<T> row = rows.get(i);
+
+            try {
+                inserter.insert(List.of(row.value()), firstId + i, now);
+                written++;
+            } catch (DataAccessException e) {
+                rejections.add(new Rejection(row.row(), ImportExceptionMessage.WRITE_FAILED));
+            }
+        }
+
+        return written;
+    }
+
+    private record Row<T>(long row, T value) {
+    }
+
+    private static final class Report {
+
+        private final int maxReportedBatches;
+        private final List<Batch> failedBatches = new ArrayList<>();
+        private int batch;
+        private long fromRow = 1;
+        private long imported;
+        private long rejected;
+
+        private Report(int maxReportedBatches) {
+            this.maxReportedBatches = maxReportedBatches;
+        }
+
+        void add(long toRow, int written, List<Rejection> rejections) {
+            batch++;
+            imported += written;
+            rejected += rejections.size();
+
+            if (!rejections.isEmpty() && failedBatches.size() < maxReportedBatches) {
+                List<Rejection> sorted = rejections.stream()
+                        .sorted(Comparator.comparingLong(Rejection::row))
+                        .toList();
+
+                failedBatches.add(new Batch(batch, fromRow, toRow, written, sorted));
+            }
+
+            fromRow = toRow + 1;
+        }
+
+        ImportResponse toResponse(long read, boolean completed) {
+            return new ImportResponse(read, imported, rejected, completed, List.copyOf(failedBatches));
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchWriter<T> {
+
+        int write(List<Row<T>> rows, List<Rejection> rejections);
+    }
+
+    @FunctionalInterface
+    private interface IdReserver {
+
+        long reserve(int count);
+    }
+
+    @FunctionalInterface
+    private interface Inserter<T> {
+
+        void insert(List<T> values, long firstId, LocalDateTime now);
+    }
+}
@@ -0,0 +1,7 @@
+package com.devcourse.springbootboardjpahi.service;
+
+/**
+ * 포스트 목록에 보이는 내용이 바뀌었음을 알린다. 트랜잭션이 커밋된 뒤에 처리된다.
+ */
+public record PostChangedEvent() {
+}
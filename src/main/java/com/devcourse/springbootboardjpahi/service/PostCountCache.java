@@ -0,0 +1,30 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청마다 {@code COUNT(*)}를 실행하지 않도록 전체 포스트 수를 백그라운드에서 주기적으로 갱신해 둔다.
+ * 갱신 주기만큼 실제 값과 차이가 날 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.post.count-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostCountCache {
+
+    private final PostRepository postRepository;
+    private final AtomicReference<Long> count = new AtomicReference<>();
+
+    @Scheduled(fixedDelayString = "${board.post.count-cache.refresh-interval:60000}")
+    public void refresh() {
+        count.set(postRepository.count());
+    }
+
+    public Long get() {
+        return count.get();
+    }
+}
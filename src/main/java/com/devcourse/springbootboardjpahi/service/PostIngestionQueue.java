@@ -0,0 +1,216 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.exception.IngestionRejectedException;
+import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포스트 생성 요청을 큐에 모았다가 한 트랜잭션으로 묶어 커밋한다(group commit).
+ * 묶음은 {@code max-batch-size} 개가 모이거나 첫 요청 후 {@code max-delay} 가 지나면 커밋되고,
+ * 묶음 중 하나라도 실패하면 그 묶음만 한 건씩 다시 생성해 실패를 해당 요청에만 돌려준다.
+ * 큐가 가득 차거나 {@code max-wait} 안에 커밋이 시작되지 않으면 요청을 거절한다.
+ * 대기 시간이 지났을 때 이미 커밋 중이던 요청은 거절하지 않고 그 결과를 기다린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "board.post.ingestion", name = "enabled", havingValue = "true")
+public class PostIngestionQueue {
+
+    private final PostService postService;
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Duration maxWait;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public PostIngestionQueue(PostService postService,
+                              MeterRegistry meterRegistry,
+                              @Value("${board.post.ingestion.capacity:10000}") int capacity,
+                              @Value("${board.post.ingestion.max-batch-size:200}") int maxBatchSize,
+                              @Value("${board.post.ingestion.max-delay:5ms}") Duration maxDelay,
+                              @Value("${board.post.ingestion.max-wait:2s}") Duration maxWait) {
+        this.postService = postService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = Math.min(maxBatchSize, PostService.MAX_BATCH_SIZE);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxWait = maxWait;
+        this.writer = new Thread(this::drainLoop, "post-ingestion-writer");
+
+        Gauge.builder("board.post.ingestion.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(maxWait.toMillis());
+    }
+
+    public PostResponse create(CreatePostRequest request) {
+        Pending pending = new Pending(request);
+
+        if (!running || !queue.offer(pending)) {
+            throw new IngestionRejectedException(PostExceptionMessage.INGESTION_QUEUE_FULL);
+        }
+
+        try {
+            return pending.future().get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            return cancelOrJoin(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return cancelOrJoin(pending);
+        }
+    }
+
+    // 작성 스레드가 먼저 가져갔다면 이미 커밋 중이므로 거절하지 않고 그 묶음의 결과를 기다린다.
+    private PostResponse cancelOrJoin(Pending pending) {
+        if (pending.cancel()) {
+            throw new IngestionRejectedException(PostExceptionMessage.INGESTION_TIMEOUT);
+        }
+
+        try {
+            return pending.future().join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        return new IllegalStateException(cause);
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                return;
+            }
+
+            batch.removeIf(pending -> !pending.claim());
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<Pending> batch) throws InterruptedException {
+        Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+
+        if (first == null) {
+            return;
+        }
+
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if (next == null) {
+                return;
+            }
+
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        List<CreatePostRequest> requests = batch.stream()
+                .map(Pending::request)
+                .toList();
+
+        try {
+            List<PostResponse> responses = postService.createAll(requests);
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(responses.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Group commit of {} posts failed, falling back to one by one", batch.size(), e);
+            batch.forEach(this::commitOne);
+        }
+    }
+
+    private void commitOne(Pending pending) {
+        try {
+            pending.future().complete(postService.create(pending.request()));
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private enum State {
+        WAITING, CLAIMED, CANCELLED
+    }
+
+    private record Pending(
+            CreatePostRequest request,
+            CompletableFuture<PostResponse> future,
+            AtomicReference<State> state
+    ) {
+
+        Pending(CreatePostRequest request) {
+            this(request, new CompletableFuture<>(), new AtomicReference<>(State.WAITING));
+        }
+
+        // 작성 스레드가 커밋 직전에 호출한다. 호출자가 먼저 취소했다면 false 를 반환한다.
+        boolean claim() {
+            return state.compareAndSet(State.WAITING, State.CLAIMED);
+        }
+
+        // 호출자가 대기 시간이 지났을 때 호출한다. 작성 스레드가 먼저 가져갔다면 false 를 반환한다.
+        boolean cancel() {
+            return state.compareAndSet(State.WAITING, State.CANCELLED);
+        }
+    }
+}
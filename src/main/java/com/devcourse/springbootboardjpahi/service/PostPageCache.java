@@ -0,0 +1,121 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.support.ReadWriteRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 요청이 몰리는 앞쪽 목록 페이지를 직렬화된 JSON(과 gzip 으로 미리 압축한) 바이트로 보관한다.
+ * 클라이언트가 정하는 페이지 크기도 키에 들어가므로, 항목 수가 아닌 보관한 바이트 수로 크기를 제한한다.
+ * 포스트가 바뀌면 커밋 후 전부 비운다.
+ */
+@Component
+public class PostPageCache {
+
+    private final ObjectWriter writer;
+    private final int hotPages;
+    private final boolean gzip;
+    private final Cache<String, SerializedPage> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostPageCache(ObjectMapper objectMapper,
+                         @Value("${board.cache.post-page.hot-pages:5}") int hotPages,
+                         @Value("${board.cache.post-page.maximum-weight:16MB}") DataSize maximumWeight,
+                         @Value("${board.cache.post-page.expire-after-write:30s}") Duration expireAfterWrite,
+                         @Value("${board.cache.post-page.gzip:true}") boolean gzip) {
+        this.writer = objectMapper.writerFor(PageResponse.class);
+        this.hotPages = hotPages;
+        this.gzip = gzip;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher(PostPageCache::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public SerializedPage get(Pageable pageable, Supplier<PageResponse<PostSummaryResponse>> loader) {
+        if (pageable.getPageNumber() >= hotPages) {
+            return serialize(generation.get(), loader.get(), false);
+        }
+
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        SerializedPage page = pages.get(key, ignored -> load(loader));
+
+        if (page.generation() == generation.get()) {
+            return page;
+        }
+
+        // 조회 도중 커밋된 변경이 있었다면 그 결과를 남기지 않는다.
+        pages.asMap().remove(key, page);
+
+        return load(loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(PostChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    private SerializedPage load(Supplier<PageResponse<PostSummaryResponse>> loader) {
+        long loadedGeneration = generation.get();
+
+        return serialize(loadedGeneration, ReadWriteRoutingDataSource.readFromPrimary(loader), gzip);
+    }
+
+    private SerializedPage serialize(long generation, PageResponse<PostSummaryResponse> page, boolean compress) {
+        try {
+            byte[] json = writer.writeValueAsBytes(page);
+
+            return new SerializedPage(generation, page.isEmpty(), json, compress ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int weigh(String key, SerializedPage page) {
+        return page.json().length + (page.gzipped() == null ? 0 : page.gzipped().length);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    public record SerializedPage(
+            long generation,
+            boolean isEmpty,
+            byte[] json,
+            byte[] gzipped
+    ) {
+    }
+}
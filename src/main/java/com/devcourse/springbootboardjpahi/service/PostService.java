@@ -1,67 +1,248 @@
 package com.devcourse.springbootboardjpahi.service;
 
+import com.devcourse.springbootboardjpahi.config.CacheConfig;
 import com.devcourse.springbootboardjpahi.domain.Post;
 import com.devcourse.springbootboardjpahi.domain.User;
 import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
 import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PatchPostRequest;
 import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import com.devcourse.springbootboardjpahi.dto.PostExportResponse;
 import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.dto.SliceResponse;
 import com.devcourse.springbootboardjpahi.dto.UpdatePostRequest;
 import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
 import com.devcourse.springbootboardjpahi.repository.PostRepository;
 import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.devcourse.springbootboardjpahi.support.Cursor;
+import com.devcourse.springbootboardjpahi.support.CursorCodec;
+import com.devcourse.springbootboardjpahi.support.PostETag;
+import com.devcourse.springbootboardjpahi.support.ReadWriteRoutingDataSource;
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.JDBCException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Timed(value = "board.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    public static final int MAX_BATCH_SIZE = 1000;
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final CursorCodec cursorCodec;
+    private final Optional<PostCountCache> postCountCache;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public PostResponse create(CreatePostRequest request) {
-        User author = userRepository.findById(request.userId())
+        String authorName = userRepository.findNameById(request.userId())
                 .orElseThrow(() -> new NoSuchElementException(PostExceptionMessage.NO_SUCH_USER));
         Post post = Post.builder()
                 .title(request.title())
                 .content(request.content())
-                .user(author)
+                .user(userRepository.getReferenceById(request.userId()))
                 .build();
 
-        Post savedPost = postRepository.save(post);
+        try {
+            Post savedPost = postRepository.saveAndFlush(post);
+
+            userRepository.addPostCount(request.userId(), 1);
+            eventPublisher.publishEvent(new PostChangedEvent());
+
+            return PostResponse.of(savedPost, authorName);
+        } catch (DataIntegrityViolationException e) {
+            if (isMissingAuthor(e)) {
+                throw new NoSuchElementException(PostExceptionMessage.NO_SUCH_USER);
+            }
+
+            throw e;
+        }
+    }
+
+    @Transactional
+    public List<PostResponse> createAll(List<CreatePostRequest> requests) {
+        Set<Long> authorIds = requests.stream()
+                .map(CreatePostRequest::userId)
+                .collect(Collectors.toSet());
+        Map<Long, User> authors = userRepository.findAllById(authorIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        if (authors.size() != authorIds.size()) {
+            throw new NoSuchElementException(PostExceptionMessage.NO_SUCH_USER);
+        }
+
+        List<Post> posts = requests.stream()
+                .map(request -> Post.builder()
+                        .title(request.title())
+                        .content(request.content())
+                        .user(authors.get(request.userId()))
+                        .build())
+                .toList();
+
+        List<PostResponse> responses = postRepository.saveAll(posts)
+                .stream()
+                .map(PostResponse::from)
+                .toList();
+
+        // 작성자 행 잠금 순서를 고정해 동시에 들어온 배치끼리 교착되지 않게 한다.
+        requests.stream()
+                .collect(Collectors.groupingBy(CreatePostRequest::userId, TreeMap::new, Collectors.counting()))
+                .forEach(userRepository::addPostCount);
+        eventPublisher.publishEvent(new PostChangedEvent());
 
-        return PostResponse.from(savedPost);
+        return responses;
     }
 
+    // 캐시를 채우는 조회이므로 복제가 지연된 레플리카가 아닌 프라이머리에서 읽는다.
+    @Cacheable(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
     @Transactional(readOnly = true)
     public PostDetailResponse findById(Long id) {
-        Post post = postRepository.findById(id)
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> postRepository.findDetailById(id))
                 .orElseThrow(() -> new NoSuchElementException(PostExceptionMessage.NO_SUCH_POST));
+    }
 
-        return PostDetailResponse.from(post);
+    public String getETag(Long id) {
+        Cache postDetailCache = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        PostDetailResponse cached = postDetailCache.get(id, PostDetailResponse.class);
+
+        if (cached != null) {
+            return PostETag.of(cached);
+        }
+
+        LocalDateTime updatedAt = postRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new NoSuchElementException(PostExceptionMessage.NO_SUCH_POST));
+
+        return PostETag.of(id, updatedAt);
     }
 
+    // 캐시 어드바이스는 트랜잭션 바깥에서 실행되므로 스냅샷을 넣으면 겹친 다른 수정의 결과를 덮어쓸 수 있다.
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
     @Transactional
     public PostDetailResponse updateById(Long id, UpdatePostRequest request) {
-        Post post = postRepository.findById(id)
+        Post post = postRepository.findWithUserById(id)
                 .orElseThrow(() -> new NoSuchElementException(PostExceptionMessage.NO_SUCH_POST));
 
         post.updateTitle(request.title());
         post.updateContent(request.content());
+        postRepository.flush();
+        eventPublisher.publishEvent(new PostChangedEvent());
 
         return PostDetailResponse.from(post);
     }
 
+    // 캐시된 스냅샷에 합치면 동시에 들어온 부분 수정끼리 서로를 덮어쓰므로 커밋 뒤에 캐시를 비운다.
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
+    @Transactional
+    public PostDetailResponse patchById(Long id, PatchPostRequest request) {
+        LocalDateTime updatedAt = LocalDateTime.now()
+                .truncatedTo(ChronoUnit.MICROS);
+        int updated = postRepository.patch(id, request.title(), request.content(), updatedAt);
+
+        if (updated == 0) {
+            throw new NoSuchElementException(PostExceptionMessage.NO_SUCH_POST);
+        }
+
+        eventPublisher.publishEvent(new PostChangedEvent());
+
+        // 행 잠금을 잡은 채로 본문을 빼고 다시 읽는다. 본문을 바꿨다면 요청의 본문을 채우고, 제목만 바꿨다면 본문 없이 돌려준다.
+        PostDetailResponse patched = postRepository.findDetailWithoutContentById(id)
+                .orElseThrow(() -> new NoSuchElementException(PostExceptionMessage.NO_SUCH_POST));
+
+        if (request.content() == null) {
+            return patched;
+        }
+
+        return patched.patch(null, request.content(), patched.updatedAt());
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<PostSummaryResponse> getPage(Pageable pageable) {
+        Page<PostSummaryResponse> page = postRepository.findSummaries(pageable);
+
+        return PageResponse.from(page);
+    }
+
     @Transactional(readOnly = true)
-    public PageResponse<PostResponse> getPage(Pageable pageable) {
-        Page<PostResponse> page = postRepository.findAll(pageable)
-                .map(PostResponse::from);
+    public PageResponse<PostSummaryResponse> search(String query, Pageable pageable) {
+        // 결과는 관련도 순으로만 정렬한다.
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<PostSummaryResponse> page = postRepository.search(query.trim(), unsorted)
+                .map(row -> new PostSummaryResponse(row.getId(), row.getTitle(), row.getExcerpt(),
+                        row.getAuthorName(), row.getCreatedAt()));
 
         return PageResponse.from(page);
     }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<PostSummaryResponse> getSlice(Pageable pageable) {
+        Slice<PostSummaryResponse> slice = postRepository.findSummarySlice(pageable);
+        Long approximateTotalElements = postCountCache.map(PostCountCache::get)
+                .orElse(null);
+
+        return SliceResponse.from(slice, approximateTotalElements);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<PostSummaryResponse> getCursorPage(String after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<PostSummaryResponse> rows;
+
+        if (after == null || after.isEmpty()) {
+            rows = postRepository.findLatest(limit);
+        } else {
+            Cursor cursor = cursorCodec.decode(after, Cursor.Kind.POST);
+            rows = postRepository.findLatestBefore(cursor.createdAt(), cursor.id(), limit);
+        }
+
+        return CursorResponse.of(rows, size, this::encodeCursor);
+    }
+
+    // 서버 측 커서(useCursorFetch)로 fetch size 만큼씩 읽어 전체 결과를 메모리에 올리지 않는다.
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<PostExportResponse> action) {
+        try (Stream<PostExportResponse> posts = postRepository.streamAllForExport()) {
+            posts.forEach(action);
+        }
+    }
+
+    // 캐시에 남아 있던 작성자가 그사이 삭제된 경우 외래 키 위반으로 드러난다.
+    private boolean isMissingAuthor(DataIntegrityViolationException e) {
+        return e.getCause() instanceof JDBCException jdbcException
+                && jdbcException.getErrorCode() == MYSQL_NO_REFERENCED_ROW;
+    }
+
+    private String encodeCursor(PostSummaryResponse post) {
+        return cursorCodec.encode(Cursor.ofPost(post.createdAt(), post.id()));
+    }
 }
@@ -0,0 +1,165 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.config.CacheConfig;
+import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수를 메모리에 모아 두었다가 주기적으로 한 번의 배치 upsert 로 반영한다.
+ * 반영된 조회수는 상세 정보와 따로 캐시하므로 반영할 때마다 상세 정보를 다시 읽지 않는다.
+ * 프로세스가 비정상 종료되면 마지막 반영 이후, 최대 {@code board.post.view-count.flush-interval} 동안의 조회수를 잃을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    // MySQL 8.0.20 부터 values() 는 deprecated 이므로 행 별칭을 쓴다.
+    private static final String MYSQL_UPSERT = """
+            insert into post_view_counts (post_id, view_count)
+            values (?, ?) as delta
+            on duplicate key update view_count = post_view_counts.view_count + delta.view_count
+            """;
+    // 부하 테스트의 H2(MySQL 모드)는 행 별칭을 지원하지 않는다.
+    private static final String H2_UPSERT = """
+            insert into post_view_counts (post_id, view_count)
+            values (?, ?)
+            on duplicate key update view_count = view_count + values(view_count)
+            """;
+    private static final String SELECT_VIEW_COUNT = "select view_count from post_view_counts where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile String upsert;
+
+    public void increment(long id) {
+        add(id, 1);
+    }
+
+    public PostDetailResponse view(PostDetailResponse postDetailResponse) {
+        increment(postDetailResponse.id());
+
+        return count(postDetailResponse);
+    }
+
+    public PostDetailResponse count(PostDetailResponse postDetailResponse) {
+        long id = postDetailResponse.id();
+
+        return postDetailResponse.withViewCount(persisted(id) + pending(id));
+    }
+
+    public long pending(long id) {
+        LongAdder adder = pending.get(id);
+
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.post.view-count.flush-interval:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Entry<Long, Long>> rows = new ArrayList<>(deltas.entrySet());
+
+        try {
+            jdbcTemplate.batchUpdate(upsert(), rows, rows.size(), (statement, row) -> {
+                statement.setLong(1, row.getKey());
+                statement.setLong(2, row.getValue());
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush {} post view counts, retrying on the next flush", rows.size(), e);
+            deltas.forEach(this::add);
+
+            return;
+        }
+
+        evictPersistedCounts(deltas);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 꺼내는 중이라 맵에서 빠진 adder 에 더했다면, 아직 꺼내지지 않은 몫을 새 adder 로 옮긴다.
+    private void add(long id, long delta) {
+        while (delta > 0) {
+            LongAdder adder = pending.computeIfAbsent(id, key -> new LongAdder());
+
+            adder.add(delta);
+
+            if (pending.get(id) == adder) {
+                return;
+            }
+
+            delta = adder.sumThenReset();
+        }
+    }
+
+    // 데드락을 피하기 위해 아이디 순으로 반영한다.
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+
+        for (Long id : pending.keySet()) {
+            LongAdder adder = pending.remove(id);
+
+            if (adder == null) {
+                continue;
+            }
+
+            long delta = adder.sumThenReset();
+
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        }
+
+        return deltas;
+    }
+
+    private long persisted(long id) {
+        Cache persistedCounts = cacheManager.getCache(CacheConfig.POST_VIEW_COUNT);
+
+        return persistedCounts.get(id, () -> jdbcTemplate.query(SELECT_VIEW_COUNT,
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L, id));
+    }
+
+    private String upsert() {
+        if (upsert == null) {
+            String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+
+            upsert = "H2".equalsIgnoreCase(productName) ? H2_UPSERT : MYSQL_UPSERT;
+        }
+
+        return upsert;
+    }
+
+    // 반영된 값에 더해 두면 그 사이에 새로 읽은 값과 겹쳐 두 번 세어지므로, 기본 키 한 건만 읽으면 되는 조회수 캐시를 비운다.
+    private void evictPersistedCounts(Map<Long, Long> deltas) {
+        Cache persistedCounts = cacheManager.getCache(CacheConfig.POST_VIEW_COUNT);
+
+        deltas.keySet()
+                .forEach(persistedCounts::evict);
+    }
+}
@@ -0,0 +1,39 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화된 {@code users.post_count} 를 실제 포스트 수로 주기적으로 맞춘다.
+ * 잠금 범위를 줄이기 위해 아이디 구간마다 별도의 트랜잭션으로 갱신한다.
+ */
+@Slf4j
+@Component
+public class UserPostCountReconciler {
+
+    private final UserRepository userRepository;
+    private final int chunkSize;
+
+    public UserPostCountReconciler(UserRepository userRepository,
+                                   @Value("${board.user.post-count.reconcile-chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${board.user.post-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        long maxId = userRepository.findMaxId();
+        int corrected = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            corrected += userRepository.reconcilePostCounts(fromId, fromId + chunkSize - 1);
+        }
+
+        if (corrected > 0) {
+            log.warn("Reconciled post counts of {} users", corrected);
+        }
+    }
+}
@@ -2,23 +2,76 @@ package com.devcourse.springbootboardjpahi.service;
 
 import com.devcourse.springbootboardjpahi.domain.User;
 import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
 import com.devcourse.springbootboardjpahi.dto.UserResponse;
+import com.devcourse.springbootboardjpahi.message.UserExceptionMessage;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
 import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.devcourse.springbootboardjpahi.support.Cursor;
+import com.devcourse.springbootboardjpahi.support.CursorCodec;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Timed(value = "board.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CursorCodec cursorCodec;
+    private final EntityManager entityManager;
 
-    public List<UserResponse> findAll() {
-        return userRepository.findAll()
+    @Transactional(readOnly = true)
+    public CursorResponse<UserResponse> getCursorPage(String after, int size) {
+        long lastId = (after == null || after.isEmpty()) ? 0 : cursorCodec.decode(after, Cursor.Kind.USER).id();
+        List<UserResponse> rows = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(size + 1))
                 .stream()
                 .map(UserResponse::from)
                 .toList();
+
+        return CursorResponse.of(rows, size, user -> cursorCodec.encode(Cursor.ofUser(user.id())));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<UserPostResponse> getPostCursorPage(long id, String after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<UserPostResponse> rows;
+
+        if (after == null || after.isEmpty()) {
+            rows = postRepository.findLatestByUserId(id, limit);
+        } else {
+            Cursor cursor = cursorCodec.decode(after, Cursor.Kind.POST);
+            rows = postRepository.findLatestByUserIdBefore(id, cursor.createdAt(), cursor.id(), limit);
+        }
+
+        // 포스트가 없는 유저와 존재하지 않는 유저는 첫 페이지가 비었을 때만 구분한다.
+        if (rows.isEmpty() && !userRepository.existsById(id)) {
+            throw new NoSuchElementException(UserExceptionMessage.NO_SUCH_USER);
+        }
+
+        return CursorResponse.of(rows, size, post -> cursorCodec.encode(Cursor.ofPost(post.createdAt(), post.id())));
+    }
+
+    // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 한 건씩 분리하며 순회한다.
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<UserResponse> action) {
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> {
+                action.accept(UserResponse.from(user));
+                entityManager.detach(user);
+            });
+        }
     }
 
     public UserResponse create(CreateUserRequest createUserRequest) {
@@ -0,0 +1,62 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import java.util.Locale;
+
+/**
+ * Accept-Encoding 헤더의 q 값을 읽어 gzip 으로 보내도 되는지 판단한다.
+ * {@code gzip;q=0} 처럼 명시적으로 거부했거나 헤더가 없으면 압축하지 않은 본문을 보낸다.
+ */
+public final class AcceptEncoding {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String WILDCARD = "*";
+    private static final String QUALITY_PARAMETER = "q=";
+
+    private AcceptEncoding() {
+        // Don't let anyone instantiate this class.
+    }
+
+    // gzip 을 직접 적은 항목이 * 보다 우선한다.
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double wildcardQuality = null;
+
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim()
+                    .toLowerCase(Locale.ROOT);
+
+            if (coding.equals(GZIP) || coding.equals(X_GZIP)) {
+                return quality(parts) > 0;
+            }
+
+            if (coding.equals(WILDCARD)) {
+                wildcardQuality = quality(parts);
+            }
+        }
+
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // 읽을 수 없는 q 값은 거부한 것으로 본다.
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim()
+                    .toLowerCase(Locale.ROOT);
+
+            if (parameter.startsWith(QUALITY_PARAMETER)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+}
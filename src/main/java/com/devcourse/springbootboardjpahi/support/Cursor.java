@@ -0,0 +1,24 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import java.time.LocalDateTime;
+
+public record Cursor(
+        Kind kind,
+        LocalDateTime createdAt,
+        long id
+) {
+
+    public static Cursor ofUser(long id) {
+        return new Cursor(Kind.USER, null, id);
+    }
+
+    public static Cursor ofPost(LocalDateTime createdAt, long id) {
+        return new Cursor(Kind.POST, createdAt, id);
+    }
+
+    // 서명되는 값에 함께 넣어 한 목록의 커서를 다른 목록에 넘기지 못하게 한다.
+    public enum Kind {
+        USER,
+        POST
+    }
+}
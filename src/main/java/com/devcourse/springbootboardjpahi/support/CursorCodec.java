@@ -0,0 +1,84 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import com.devcourse.springbootboardjpahi.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서를 {@code base64url(payload).base64url(HMAC-SHA256(payload))} 형태의 불투명한 토큰으로 변환한다.
+ * 서명이 맞지 않는 토큰은 위조된 것으로 보고, 다른 종류의 목록에서 발급된 토큰은 잘못된 것으로 보고 거부한다.
+ */
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char TOKEN_DELIMITER = '.';
+    private static final String FIELD_DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec secretKey;
+
+    public CursorCodec(@Value("${board.cursor.secret}") String secret) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String encode(Cursor cursor) {
+        String payload = switch (cursor.kind()) {
+            case USER -> cursor.kind() + FIELD_DELIMITER + cursor.id();
+            case POST -> cursor.kind() + FIELD_DELIMITER + cursor.createdAt() + FIELD_DELIMITER + cursor.id();
+        };
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payloadBytes) + TOKEN_DELIMITER + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    public Cursor decode(String token, Cursor.Kind expected) {
+        int delimiterIndex = token.indexOf(TOKEN_DELIMITER);
+
+        if (delimiterIndex < 0) {
+            throw new InvalidCursorException();
+        }
+
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, delimiterIndex));
+            byte[] signature = DECODER.decode(token.substring(delimiterIndex + 1));
+
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                throw new InvalidCursorException();
+            }
+
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split("\\" + FIELD_DELIMITER);
+
+            if (Cursor.Kind.valueOf(fields[0]) != expected) {
+                throw new InvalidCursorException();
+            }
+
+            return switch (expected) {
+                case USER -> Cursor.ofUser(Long.parseLong(fields[1]));
+                case POST -> Cursor.ofPost(LocalDateTime.parse(fields[1]), Long.parseLong(fields[2]));
+            };
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException(e);
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import com.devcourse.springbootboardjpahi.exception.UnsupportedImportFormatException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, ".ndjson"),
+    CSV(new MediaType("text", "csv"), ".csv");
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ImportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ImportFormat of(MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(contentType))
+                .findFirst()
+                .orElseThrow(UnsupportedImportFormatException::new);
+    }
+
+    public static ImportFormat of(Path path) {
+        String fileName = path.getFileName()
+                .toString()
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(values())
+                .filter(format -> fileName.endsWith(format.extension))
+                .findFirst()
+                .orElseThrow(UnsupportedImportFormatException::new);
+    }
+}
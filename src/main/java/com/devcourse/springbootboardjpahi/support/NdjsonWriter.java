@@ -0,0 +1,31 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 값을 한 줄에 하나씩 JSON으로 기록한다. 전체 결과를 메모리에 모으지 않고 바로 출력 스트림으로 흘려보낼 때 사용한다.
+ */
+public class NdjsonWriter {
+
+    private static final int NEW_LINE = '\n';
+
+    private final OutputStream outputStream;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        this.outputStream = outputStream;
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write(NEW_LINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
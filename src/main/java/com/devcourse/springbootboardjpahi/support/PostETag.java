@@ -0,0 +1,48 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 포스트 상세 정보의 약한 ETag 를 만든다.
+ * 응답의 조회수는 수정 없이도 바뀌므로 바이트 단위로 같음을 보장하는 강한 ETag 대신, 조회수를 제외한 내용이 같음을 뜻하는 약한 ETag 를 쓴다.
+ */
+public final class PostETag {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private PostETag() {
+        // Don't let anyone instantiate this class.
+    }
+
+    public static String of(PostDetailResponse post) {
+        return of(post.id(), post.updatedAt());
+    }
+
+    public static String of(long id, LocalDateTime updatedAt) {
+        long updatedAtMicros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+
+        return WEAK_PREFIX + "\"" + id + "-" + Long.toHexString(updatedAtMicros) + "\"";
+    }
+
+    // If-None-Match 는 약한 비교를 하므로 W/ 접두사를 떼고 비교한다.
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        String opaqueTag = opaque(eTag);
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = opaque(candidate.trim());
+
+            if (tag.equals(WILDCARD) || tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,77 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import com.devcourse.springbootboardjpahi.support.ReplicaRouter.Replica;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 프라이머리로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻도록 {@code LazyConnectionDataSourceProxy} 로 감싸서 사용해야 한다.
+ * <p>
+ * 캐시를 채우는 조회는 {@link #readFromPrimary(Supplier)} 로 감싸 프라이머리에서 읽는다.
+ * 수정 후 캐시를 비운 직후의 조회가 지연된 레플리카에서 이전 행을 읽으면, 이후 무효화가 없어 만료될 때까지 그 값이 남기 때문이다.
+ */
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = ThreadLocal.withInitial(() -> false);
+
+    private final ReplicaRouter replicaRouter;
+
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        boolean outer = PRIMARY_READ.get();
+
+        PRIMARY_READ.set(true);
+
+        try {
+            return read.get();
+        } finally {
+            if (!outer) {
+                PRIMARY_READ.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    // AbstractRoutingDataSource 와 같이 고른 풀에 계정 정보를 그대로 넘긴다.
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_READ.get()) {
+            return opener.open(replicaRouter.primary());
+        }
+
+        Optional<Replica> replica = replicaRouter.nextReplica();
+
+        if (replica.isEmpty()) {
+            return opener.open(replicaRouter.primary());
+        }
+
+        try {
+            return opener.open(replica.get().dataSource());
+        } catch (SQLException e) {
+            replica.get().markDown(e);
+
+            return opener.open(replicaRouter.primary());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
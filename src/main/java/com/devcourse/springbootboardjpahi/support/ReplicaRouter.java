@@ -0,0 +1,106 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 읽기 전용 트랜잭션이 사용할 레플리카를 라운드 로빈으로 고른다.
+ * 상태 확인에 실패한 레플리카는 다음 확인에서 살아날 때까지 제외하고, 남은 레플리카가 없으면 프라이머리를 사용한다.
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRouter(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.stream()
+                .map(Replica::new)
+                .toList();
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public Optional<Replica> nextReplica() {
+        int size = replicas.size();
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), size));
+
+            if (replica.isHealthy()) {
+                return Optional.of(replica);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.routing.health-check-interval:5000}")
+    public void checkHealth() {
+        replicas.forEach(Replica::check);
+    }
+
+    @Override
+    public void close() {
+        close(primary);
+        replicas.forEach(replica -> close(replica.dataSource()));
+    }
+
+    private void close(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+
+    public static class Replica {
+
+        private final DataSource dataSource;
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy.get();
+        }
+
+        public void markDown(SQLException cause) {
+            if (healthy.compareAndSet(true, false)) {
+                log.warn("Replica {} is marked down", dataSource, cause);
+            }
+        }
+
+        private void check() {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection validation failed");
+                }
+
+                if (healthy.compareAndSet(false, true)) {
+                    log.info("Replica {} is back up", dataSource);
+                }
+            } catch (SQLException e) {
+                markDown(e);
+            }
+        }
+    }
+}
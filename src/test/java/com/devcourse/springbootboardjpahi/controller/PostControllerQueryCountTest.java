@@ -0,0 +1,101 @@
+package com.devcourse.springbootboardjpahi.controller;
+
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.assertSelectCount;
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.resetQueryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.devcourse.springbootboardjpahi.service.PostPageCache;
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostControllerQueryCountTest {
+
+    static final Faker faker = new Faker();
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    CacheManager cacheManager;
+    @Autowired
+    PostPageCache postPageCache;
+
+    @AfterEach
+    void clear() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames()
+                .forEach(name -> cacheManager.getCache(name).clear());
+        postPageCache.invalidateAll();
+    }
+
+    @DisplayName("포스트 목록 조회는 페이지 크기와 관계없이 내용과 개수 select 문만 실행한다.")
+    @Test
+    void testFindQueryCount() throws Exception {
+        // given
+        for (int i = 0; i < 12; i++) {
+            savePost();
+        }
+
+        resetQueryCount();
+
+        // when
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk());
+
+        // then
+        assertSelectCount(2);
+    }
+
+    @DisplayName("포스트 상세 조회는 select 문을 한 번만 실행한다.")
+    @Test
+    void testFindByIdQueryCount() throws Exception {
+        // given
+        Post post = savePost();
+
+        resetQueryCount();
+
+        // when
+        mockMvc.perform(get("/api/v1/posts/{id}", post.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        assertSelectCount(1);
+    }
+
+    private Post savePost() {
+        User author = userRepository.save(User.builder()
+                .name(faker.name().firstName())
+                .age(faker.number().numberBetween(0, 120))
+                .hobby(faker.esports().game())
+                .build());
+        Post post = Post.builder()
+                .title(faker.book().title())
+                .content(faker.shakespeare().hamletQuote())
+                .user(author)
+                .build();
+
+        return postRepository.save(post);
+    }
+}
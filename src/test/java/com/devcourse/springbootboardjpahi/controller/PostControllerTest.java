@@ -1,57 +1,184 @@
 package com.devcourse.springbootboardjpahi.controller;
 
+import static com.devcourse.springbootboardjpahi.message.CursorExceptionMessage.INVALID_CURSOR;
+import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.BLANK_QUERY;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.BLANK_TITLE;
+import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.EMPTY_PATCH;
+import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.INGESTION_QUEUE_FULL;
+import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.INVALID_BATCH_SIZE;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.INVALID_USER_ID;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.NO_SUCH_POST;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.NO_SUCH_USER;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.NULL_CONTENT;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.devcourse.springbootboardjpahi.domain.User;
 import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Batch;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Rejection;
 import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PatchPostRequest;
 import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import com.devcourse.springbootboardjpahi.dto.PostExportResponse;
 import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.dto.SliceResponse;
 import com.devcourse.springbootboardjpahi.dto.UpdatePostRequest;
+import com.devcourse.springbootboardjpahi.exception.IngestionRejectedException;
+import com.devcourse.springbootboardjpahi.exception.InvalidCursorException;
+import com.devcourse.springbootboardjpahi.service.BulkImportService;
+import com.devcourse.springbootboardjpahi.service.PostPageCache;
 import com.devcourse.springbootboardjpahi.service.PostService;
+import com.devcourse.springbootboardjpahi.service.PostViewCounter;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import com.devcourse.springbootboardjpahi.support.PostETag;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(PostController.class)
+@Import(PostPageCache.class)
 class PostControllerTest {
 
     static final Faker faker = new Faker();
 
     @MockBean
     PostService postService;
+    @MockBean
+    PostViewCounter postViewCounter;
+    @MockBean
+    BulkImportService bulkImportService;
+    @Autowired
+    PostPageCache postPageCache;
     @Autowired
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
 
+    @AfterEach
+    void clearPageCache() {
+        postPageCache.invalidateAll();
+    }
+
+    @DisplayName("[GET] 전체 포스트를 NDJSON으로 스트리밍한다.")
+    @Test
+    void testExport() throws Exception {
+        // given
+        List<PostExportResponse> posts = List.of(generateExportResponse(), generateExportResponse());
+        StringBuilder expected = new StringBuilder();
+
+        for (PostExportResponse post : posts) {
+            expected.append(objectMapper.writeValueAsString(post))
+                    .append('\n');
+        }
+
+        willAnswer(invocation -> {
+            Consumer<PostExportResponse> action = invocation.getArgument(0);
+            posts.forEach(action);
+
+            return null;
+        }).given(postService)
+                .forEach(any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions actions = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected.toString()));
+    }
+
+    @DisplayName("[GET] 포스트 내보내기는 기본 비동기 타임아웃에 끊기지 않는다.")
+    @Test
+    void testExportWithoutAsyncTimeout() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isNotPositive();
+    }
+
+    @DisplayName("[POST] CSV로 포스트를 가져오고 거절된 레코드를 배치별로 알려준다.")
+    @Test
+    void testImport() throws Exception {
+        // given
+        String body = """
+                title,content,userId
+                %s,%s,%d
+                %s,%s,%d
+                """.formatted(faker.lorem().word(), faker.lorem().word(), generateId(),
+                faker.lorem().word(), faker.lorem().word(), generateId());
+        ImportResponse importResponse = new ImportResponse(2, 1, 1, true,
+                List.of(new Batch(1, 1, 2, 1, List.of(new Rejection(2, NO_SUCH_USER)))));
+
+        given(bulkImportService.importPosts(any(), eq(ImportFormat.CSV)))
+                .willReturn(importResponse);
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/import")
+                .contentType(ImportFormat.TEXT_CSV_VALUE)
+                .content(body));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", is(2)))
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.failedBatches[0].rejections[0].message", is(NO_SUCH_USER)));
+    }
+
     @DisplayName("[POST] 포스트를 추가한다.")
     @Test
     void testCreate() throws Exception {
@@ -82,6 +209,26 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.authorName", is(author.getName())));
     }
 
+    @DisplayName("[POST] 생성 요청이 밀려 거절되면 503 상태 코드와 재시도 시간을 반환한다.")
+    @Test
+    void testCreateRejected() throws Exception {
+        // given
+        CreatePostRequest createPostRequest = generateCreateRequest(generateId());
+
+        given(postService.create(createPostRequest))
+                .willThrow(new IngestionRejectedException(INGESTION_QUEUE_FULL));
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createPostRequest)));
+
+        // then
+        actions.andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.message", is(INGESTION_QUEUE_FULL)));
+    }
+
     @DisplayName("[POST] 존재하지 않는 유저의 포스트를 생성할 수 없다.")
     @Test
     void testCreateNoSuchUser() throws Exception {
@@ -156,6 +303,77 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.message", is(INVALID_USER_ID)));
     }
 
+    @DisplayName("[POST] 포스트를 배치로 추가한다.")
+    @Test
+    void testCreateAll() throws Exception {
+        // given
+        User author = generateAuthor();
+        List<CreatePostRequest> requests = List.of(
+                generateCreateRequest(author.getId()),
+                generateCreateRequest(author.getId()));
+        List<PostResponse> responses = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreatePostRequest request = requests.get(i);
+
+            responses.add(PostResponse.builder()
+                    .id(i + 1L)
+                    .title(request.title())
+                    .content(request.content())
+                    .authorName(author.getName())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        given(postService.createAll(requests))
+                .willReturn(responses);
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // then
+        actions.andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(requests.size())))
+                .andExpect(jsonPath("$[0].title", is(requests.get(0).title())));
+    }
+
+    @DisplayName("[POST] 빈 배치로 포스트를 추가할 수 없다.")
+    @Test
+    void testCreateAllEmpty() throws Exception {
+        // given
+        List<CreatePostRequest> requests = Collections.emptyList();
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(INVALID_BATCH_SIZE)));
+    }
+
+    @DisplayName("[POST] 배치에 포함된 포스트의 제목은 공백일 수 없다.")
+    @Test
+    void testCreateAllBlankTitle() throws Exception {
+        // given
+        User author = generateAuthor();
+        List<CreatePostRequest> requests = List.of(
+                generateCreateRequest(author.getId()),
+                new CreatePostRequest(" ", faker.shakespeare().hamletQuote(), author.getId()));
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(BLANK_TITLE)));
+    }
+
     @DisplayName("[GET] 포스트를 상세 조회한다.")
     @Test
     void testFindById() throws Exception {
@@ -171,10 +389,14 @@ class PostControllerTest {
                 .authorName(authorName)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .viewCount(faker.number().randomNumber())
                 .build();
+        PostDetailResponse viewed = postDetailResponse.withViewCount(postDetailResponse.viewCount() + 1);
 
         given(postService.findById(id))
                 .willReturn(postDetailResponse);
+        given(postViewCounter.view(postDetailResponse))
+                .willReturn(viewed);
 
         // when
         ResultActions actions = mockMvc.perform(get("/api/v1/posts/{id}", id));
@@ -184,7 +406,66 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.id", is(postDetailResponse.id()), Long.class))
                 .andExpect(jsonPath("$.title", is(postDetailResponse.title())))
                 .andExpect(jsonPath("$.content", is(postDetailResponse.content())))
-                .andExpect(jsonPath("$.authorName", is(postDetailResponse.authorName())));
+                .andExpect(jsonPath("$.authorName", is(postDetailResponse.authorName())))
+                .andExpect(jsonPath("$.viewCount", is(viewed.viewCount()), Long.class))
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")));
+    }
+
+    @DisplayName("[GET] 포스트가 변경되지 않았다면 본문 없이 304 상태 코드를 반환한다.")
+    @Test
+    void testFindByIdNotModified() throws Exception {
+        // given
+        long id = generateId();
+        String eTag = PostETag.of(id, LocalDateTime.now());
+
+        given(postService.getETag(id))
+                .willReturn(eTag);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        actions.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        then(postService).should(never())
+                .findById(id);
+        then(postViewCounter).should()
+                .increment(id);
+    }
+
+    @DisplayName("[GET] 포스트가 변경되었다면 새로운 ETag와 함께 상세 정보를 반환한다.")
+    @Test
+    void testFindByIdModified() throws Exception {
+        // given
+        long id = generateId();
+        LocalDateTime updatedAt = LocalDateTime.now();
+        String staleETag = PostETag.of(id, updatedAt.minusMinutes(1));
+        PostDetailResponse postDetailResponse = PostDetailResponse.builder()
+                .id(id)
+                .title(faker.book().title())
+                .content(faker.shakespeare().hamletQuote())
+                .authorName(faker.name().firstName())
+                .createdAt(updatedAt.minusDays(1))
+                .updatedAt(updatedAt)
+                .build();
+
+        given(postService.getETag(id))
+                .willReturn(PostETag.of(postDetailResponse));
+        given(postService.findById(id))
+                .willReturn(postDetailResponse);
+        given(postViewCounter.view(postDetailResponse))
+                .willReturn(postDetailResponse);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, PostETag.of(postDetailResponse)))
+                .andExpect(jsonPath("$.title", is(postDetailResponse.title())));
     }
 
     @DisplayName("[GET] 존재하지 않는 포스트를 조회할 수 없다.")
@@ -223,6 +504,8 @@ class PostControllerTest {
 
         given(postService.updateById(id, updatePostRequest))
                 .willReturn(postDetailResponse);
+        given(postViewCounter.count(postDetailResponse))
+                .willReturn(postDetailResponse);
 
         // when
         ResultActions actions = mockMvc.perform(put("/api/v1/posts/{id}", id)
@@ -274,6 +557,73 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.message", is(BLANK_TITLE)));
     }
 
+    @DisplayName("[PATCH] 포스트의 제목만 수정하면 본문 없이 수정된 상태를 반환한다.")
+    @Test
+    void testPatchById() throws Exception {
+        // given
+        long id = generateId();
+        PatchPostRequest patchPostRequest = new PatchPostRequest(faker.book().title(), null);
+        PostDetailResponse postDetailResponse = PostDetailResponse.builder()
+                .id(id)
+                .title(patchPostRequest.title())
+                .authorName(faker.name().firstName())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        given(postService.patchById(id, patchPostRequest))
+                .willReturn(postDetailResponse);
+        given(postViewCounter.count(postDetailResponse))
+                .willReturn(postDetailResponse);
+
+        // when
+        ResultActions actions = mockMvc.perform(patch("/api/v1/posts/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patchPostRequest)));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, PostETag.of(postDetailResponse)))
+                .andExpect(jsonPath("$.title", is(patchPostRequest.title())))
+                .andExpect(jsonPath("$.content", nullValue()));
+    }
+
+    @DisplayName("[PATCH] 수정할 항목이 없으면 수정할 수 없다.")
+    @Test
+    void testPatchByIdEmpty() throws Exception {
+        // given
+        long id = generateId();
+
+        // when
+        ResultActions actions = mockMvc.perform(patch("/api/v1/posts/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(EMPTY_PATCH)));
+        then(postService).should(never())
+                .patchById(any(), any());
+    }
+
+    @DisplayName("[PATCH] 제목을 공백으로 수정할 수 없다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    void testPatchByIdBlankTitle(String title) throws Exception {
+        // given
+        long id = generateId();
+        PatchPostRequest patchPostRequest = new PatchPostRequest(title, null);
+
+        // when
+        ResultActions actions = mockMvc.perform(patch("/api/v1/posts/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patchPostRequest)));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(BLANK_TITLE)));
+    }
+
     @DisplayName("[PUT] 포스트 내용은 null일 수 없다.")
     @Test
     void testUpdateNullContent() throws Exception {
@@ -296,7 +646,7 @@ class PostControllerTest {
     @Test
     void testFindNoContent() throws Exception {
         // given
-        PageResponse<PostResponse> page = PageResponse.<PostResponse>builder()
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
                 .isEmpty(true)
                 .totalPages(1)
                 .totalElements(0L)
@@ -321,12 +671,12 @@ class PostControllerTest {
         int defaultPageSize = 10;
         int totalPages = (int) Math.ceil((double) totalCount / defaultPageSize);
         long contentSize = totalCount % defaultPageSize;
-        List<PostResponse> postResponses = generatePostResponsesOrderByAsc(contentSize);
-        PageResponse<PostResponse> page = PageResponse.<PostResponse>builder()
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(contentSize);
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
                 .isEmpty(false)
                 .totalPages(totalPages)
                 .totalElements(totalCount)
-                .content(postResponses)
+                .content(postSummaries)
                 .build();
 
         given(postService.getPage(any()))
@@ -345,6 +695,236 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.content", hasSize((int) contentSize)));
     }
 
+    @DisplayName("[GET] 앞쪽 목록 페이지는 직렬화된 응답을 재사용한다.")
+    @Test
+    void testFindHotPageIsCached() throws Exception {
+        // given
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .totalPages(1)
+                .totalElements(3L)
+                .content(generatePostSummariesOrderByAsc(3))
+                .build();
+
+        given(postService.getPage(any()))
+                .willReturn(page);
+
+        mockMvc.perform(get("/api/v1/posts"));
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts"));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)));
+        then(postService).should(times(1))
+                .getPage(any());
+    }
+
+    @DisplayName("[GET] gzip 을 받는 클라이언트에는 미리 압축한 목록 페이지를 그대로 보낸다.")
+    @Test
+    void testFindGzip() throws Exception {
+        // given
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .totalPages(1)
+                .totalElements(3L)
+                .content(generatePostSummariesOrderByAsc(3))
+                .build();
+
+        given(postService.getPage(any()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        // then
+        byte[] body = actions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
+            assertThat(json).isEqualTo(objectMapper.writeValueAsString(page));
+        }
+    }
+
+    @DisplayName("[GET] gzip 을 거부한 클라이언트에는 압축하지 않은 목록 페이지를 보낸다.")
+    @Test
+    void testFindGzipRejected() throws Exception {
+        // given
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .totalPages(1)
+                .totalElements(3L)
+                .content(generatePostSummariesOrderByAsc(3))
+                .build();
+
+        given(postService.getPage(any()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @DisplayName("[GET] 포스트를 전체 개수 없이 슬라이스로 조회한다.")
+    @Test
+    void testFindSlice() throws Exception {
+        // given
+        int pageSize = 10;
+        long approximateTotal = 123;
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(pageSize);
+        SliceResponse<PostSummaryResponse> slice = SliceResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .approximateTotalElements(approximateTotal)
+                .content(postSummaries)
+                .build();
+
+        given(postService.getSlice(any()))
+                .willReturn(slice);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("slice", "true")
+                .param("size", String.valueOf(pageSize)));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.approximateTotalElements", is(approximateTotal), Long.class))
+                .andExpect(jsonPath("$.content", hasSize(pageSize)));
+    }
+
+    @DisplayName("[GET] slice와 커서가 함께 오면 슬라이스로 조회한다.")
+    @Test
+    void testFindSliceWithCursor() throws Exception {
+        // given
+        int pageSize = 10;
+        SliceResponse<PostSummaryResponse> slice = SliceResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .hasNext(false)
+                .content(generatePostSummariesOrderByAsc(pageSize))
+                .build();
+
+        given(postService.getSlice(any()))
+                .willReturn(slice);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("slice", "true")
+                .param("after", "cursor")
+                .param("size", String.valueOf(pageSize)));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(pageSize)));
+        then(postService).should(never())
+                .getCursorPage(any(), anyInt());
+    }
+
+    @DisplayName("[GET] 포스트를 커서 기반으로 조회한다.")
+    @Test
+    void testFindByCursor() throws Exception {
+        // given
+        String after = "cursor";
+        String nextCursor = "next-cursor";
+        int pageSize = 5;
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(pageSize);
+        CursorResponse<PostSummaryResponse> page = CursorResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .nextCursor(nextCursor)
+                .content(postSummaries)
+                .build();
+
+        given(postService.getCursorPage(after, pageSize))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("after", after)
+                .param("size", String.valueOf(pageSize)));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)))
+                .andExpect(jsonPath("$.content", hasSize(pageSize)));
+    }
+
+    @DisplayName("[GET] 유효하지 않은 커서로 조회할 수 없다.")
+    @Test
+    void testFindByCursorInvalidCursor() throws Exception {
+        // given
+        String after = "invalid";
+
+        given(postService.getCursorPage(eq(after), anyInt()))
+                .willThrow(new InvalidCursorException());
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("after", after));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(INVALID_CURSOR)));
+    }
+
+    @DisplayName("[GET] 검색어로 포스트를 검색한다.")
+    @Test
+    void testSearch() throws Exception {
+        // given
+        int pageSize = 10;
+        String query = "스프링";
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(pageSize);
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .totalPages(2)
+                .totalElements(15L)
+                .content(postSummaries)
+                .build();
+
+        given(postService.search(eq(query), any()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/search")
+                .param("q", query)
+                .param("size", String.valueOf(pageSize)));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(15)))
+                .andExpect(jsonPath("$.content", hasSize(pageSize)));
+    }
+
+    @DisplayName("[GET] 검색어가 공백이면 검색할 수 없다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    void testSearchBlankQuery(String query) throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/search")
+                .param("q", query));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(BLANK_QUERY)));
+        then(postService).should(never())
+                .search(any(), any());
+    }
+
     private CreatePostRequest generateCreateRequest(Long userId) {
         String title = faker.book().title();
         String content = faker.shakespeare().hamletQuote();
@@ -388,29 +968,41 @@ class PostControllerTest {
                 .build();
     }
 
-    private List<PostResponse> generatePostResponsesOrderByAsc(long count) {
-        List<PostResponse> postResponses = new ArrayList<>();
+    private List<PostSummaryResponse> generatePostSummariesOrderByAsc(long count) {
+        List<PostSummaryResponse> postSummaries = new ArrayList<>();
 
         for (long id = 1; id <= count; id++) {
             String title = faker.book().title();
-            String content = faker.shakespeare().hamletQuote();
+            String excerpt = faker.shakespeare().hamletQuote();
             User author = generateAuthor();
 
-            PostResponse postResponse = PostResponse.builder()
+            PostSummaryResponse postSummary = PostSummaryResponse.builder()
                     .id(id)
                     .title(title)
-                    .content(content)
+                    .excerpt(excerpt)
                     .authorName(author.getName())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            postResponses.add(postResponse);
+            postSummaries.add(postSummary);
         }
 
-        return postResponses;
+        return postSummaries;
     }
 
     private long generateId() {
         return Math.abs(faker.number().randomDigitNotZero());
     }
+
+    private PostExportResponse generateExportResponse() {
+        return PostExportResponse.builder()
+                .id(generateId())
+                .title(faker.book().title())
+                .content(faker.shakespeare().hamletQuote())
+                .userId(generateId())
+                .authorName(faker.name().firstName())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
 }
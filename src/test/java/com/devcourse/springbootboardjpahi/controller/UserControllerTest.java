@@ -2,22 +2,43 @@ package com.devcourse.springbootboardjpahi.controller;
 
 import static com.devcourse.springbootboardjpahi.message.UserExceptionMessage.BLANK_NAME;
 import static com.devcourse.springbootboardjpahi.message.UserExceptionMessage.NEGATIVE_AGE;
+import static com.devcourse.springbootboardjpahi.message.UserExceptionMessage.NO_SUCH_USER;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Batch;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Rejection;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
 import com.devcourse.springbootboardjpahi.dto.UserResponse;
+import com.devcourse.springbootboardjpahi.service.BulkImportService;
 import com.devcourse.springbootboardjpahi.service.UserService;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -28,6 +49,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(UserController.class)
@@ -37,34 +59,51 @@ class UserControllerTest {
 
     @MockBean
     UserService userService;
+    @MockBean
+    BulkImportService bulkImportService;
     @Autowired
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
 
-    @DisplayName("[GET] 사용자 정보를 모두 반환한다.")
+    @DisplayName("[GET] 사용자 정보를 커서 기반으로 반환한다.")
     @Test
-    void testFindAll() throws Exception {
+    void testFind() throws Exception {
         // given
         List<UserResponse> mockResponses = List.of(generateUserResponse(), generateUserResponse());
+        CursorResponse<UserResponse> page = CursorResponse.<UserResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .nextCursor("next-cursor")
+                .content(mockResponses)
+                .build();
 
-        given(userService.findAll())
-                .willReturn(mockResponses);
+        given(userService.getCursorPage(any(), anyInt()))
+                .willReturn(page);
 
         // when
-        ResultActions actions = mockMvc.perform(get("/api/v1/users"));
+        ResultActions actions = mockMvc.perform(get("/api/v1/users")
+                .param("size", String.valueOf(mockResponses.size())));
 
         // then
         actions.andExpect(status().isOk())
-                .andExpect(jsonPath("$.*", hasSize(mockResponses.size())));
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("next-cursor")))
+                .andExpect(jsonPath("$.content", hasSize(mockResponses.size())));
     }
 
     @DisplayName("[GET] 등록된 사용자가 없으면 204 상태 코드를 반환한다.")
     @Test
-    void testFindAllNoContent() throws Exception {
+    void testFindNoContent() throws Exception {
         // given
-        given(userService.findAll())
-                .willReturn(Collections.emptyList());
+        CursorResponse<UserResponse> page = CursorResponse.<UserResponse>builder()
+                .isEmpty(true)
+                .hasNext(false)
+                .content(Collections.emptyList())
+                .build();
+
+        given(userService.getCursorPage(any(), anyInt()))
+                .willReturn(page);
 
         // when
         ResultActions actions = mockMvc.perform(get("/api/v1/users"));
@@ -73,6 +112,143 @@ class UserControllerTest {
         actions.andExpect(status().isNoContent());
     }
 
+    @DisplayName("[GET] 사용자가 작성한 포스트를 커서 기반으로 반환한다.")
+    @Test
+    void testFindPosts() throws Exception {
+        // given
+        long id = faker.number().randomNumber();
+        List<UserPostResponse> posts = List.of(generateUserPostResponse(), generateUserPostResponse());
+        CursorResponse<UserPostResponse> page = CursorResponse.<UserPostResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .nextCursor("next-cursor")
+                .content(posts)
+                .build();
+
+        given(userService.getPostCursorPage(id, null, posts.size()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/users/{id}/posts", id)
+                .param("size", String.valueOf(posts.size())));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor", is("next-cursor")))
+                .andExpect(jsonPath("$.content", hasSize(posts.size())))
+                .andExpect(jsonPath("$.content[0].title", is(posts.get(0).title())));
+    }
+
+    @DisplayName("[GET] 작성한 포스트가 없으면 204 상태 코드를 반환한다.")
+    @Test
+    void testFindPostsNoContent() throws Exception {
+        // given
+        CursorResponse<UserPostResponse> page = CursorResponse.<UserPostResponse>builder()
+                .isEmpty(true)
+                .hasNext(false)
+                .content(Collections.emptyList())
+                .build();
+
+        given(userService.getPostCursorPage(anyLong(), any(), anyInt()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/users/{id}/posts", faker.number().randomNumber()));
+
+        // then
+        actions.andExpect(status().isNoContent());
+    }
+
+    @DisplayName("[GET] 존재하지 않는 사용자의 포스트는 조회할 수 없다.")
+    @Test
+    void testFindPostsNoSuchUser() throws Exception {
+        // given
+        given(userService.getPostCursorPage(anyLong(), any(), anyInt()))
+                .willThrow(new NoSuchElementException(NO_SUCH_USER));
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/users/{id}/posts", faker.number().randomNumber()));
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(NO_SUCH_USER)));
+    }
+
+    @DisplayName("[GET] 전체 사용자를 NDJSON으로 스트리밍한다.")
+    @Test
+    void testExport() throws Exception {
+        // given
+        List<UserResponse> users = List.of(generateUserResponse(), generateUserResponse());
+        StringBuilder expected = new StringBuilder();
+
+        for (UserResponse user : users) {
+            expected.append(objectMapper.writeValueAsString(user))
+                    .append('\n');
+        }
+
+        willAnswer(invocation -> {
+            Consumer<UserResponse> action = invocation.getArgument(0);
+            users.forEach(action);
+
+            return null;
+        }).given(userService)
+                .forEach(any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions actions = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected.toString()));
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isNotPositive();
+    }
+
+    @DisplayName("[POST] NDJSON으로 사용자를 가져오고 거절된 레코드를 배치별로 알려준다.")
+    @Test
+    void testImport() throws Exception {
+        // given
+        String body = objectMapper.writeValueAsString(generateCreateUserRequest()) + "\n"
+                + objectMapper.writeValueAsString(new CreateUserRequest(" ", 20, null)) + "\n";
+        ImportResponse importResponse = new ImportResponse(2, 1, 1, true,
+                List.of(new Batch(1, 1, 2, 1, List.of(new Rejection(2, BLANK_NAME)))));
+
+        given(bulkImportService.importUsers(any(), eq(ImportFormat.NDJSON)))
+                .willReturn(importResponse);
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/users/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.failedBatches[0].rejections[0].row", is(2)))
+                .andExpect(jsonPath("$.failedBatches[0].rejections[0].message", is(BLANK_NAME)));
+    }
+
+    @DisplayName("[POST] NDJSON, CSV가 아닌 형식은 가져올 수 없다.")
+    @Test
+    void testImportUnsupportedFormat() throws Exception {
+        // given
+        String body = objectMapper.writeValueAsString(List.of(generateCreateUserRequest()));
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/v1/users/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        // then
+        actions.andExpect(status().isUnsupportedMediaType());
+        then(bulkImportService).should(never())
+                .importUsers(any(), any());
+    }
+
     @DisplayName("[POST] 사용자를 추가한다.")
     @Test
     void testCreate() throws Exception {
@@ -152,6 +328,7 @@ class UserControllerTest {
         int age = faker.number().numberBetween(0, 120);
         String hobby = faker.esports().game();
         LocalDateTime createdAt = LocalDateTime.now();
+        long postCount = faker.number().numberBetween(0, 100);
 
         return UserResponse.builder()
                 .id(id)
@@ -159,6 +336,15 @@ class UserControllerTest {
                 .age(age)
                 .hobby(hobby)
                 .createdAt(createdAt)
+                .postCount(postCount)
+                .build();
+    }
+
+    UserPostResponse generateUserPostResponse() {
+        return UserPostResponse.builder()
+                .id(faker.number().randomNumber())
+                .title(faker.book().title())
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 }
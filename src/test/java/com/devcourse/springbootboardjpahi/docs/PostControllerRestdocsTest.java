@@ -3,6 +3,7 @@ package com.devcourse.springbootboardjpahi.docs;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.NO_SUCH_POST;
 import static com.devcourse.springbootboardjpahi.message.PostExceptionMessage.NO_SUCH_USER;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
@@ -21,11 +22,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import com.devcourse.springbootboardjpahi.controller.PostController;
 import com.devcourse.springbootboardjpahi.domain.User;
 import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
 import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PatchPostRequest;
 import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
 import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
 import com.devcourse.springbootboardjpahi.dto.UpdatePostRequest;
+import com.devcourse.springbootboardjpahi.service.BulkImportService;
+import com.devcourse.springbootboardjpahi.service.PostPageCache;
 import com.devcourse.springbootboardjpahi.service.PostService;
+import com.devcourse.springbootboardjpahi.service.PostViewCounter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
 import java.time.LocalDateTime;
@@ -33,12 +40,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.FieldDescriptor;
@@ -49,17 +58,29 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 
 @AutoConfigureRestDocs
 @WebMvcTest(PostController.class)
+@Import(PostPageCache.class)
 public class PostControllerRestdocsTest {
 
     static final Faker faker = new Faker();
 
     @MockBean
     PostService postService;
+    @MockBean
+    PostViewCounter postViewCounter;
+    @MockBean
+    BulkImportService bulkImportService;
+    @Autowired
+    PostPageCache postPageCache;
     @Autowired
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
 
+    @AfterEach
+    void clearPageCache() {
+        postPageCache.invalidateAll();
+    }
+
     @DisplayName("[POST] 포스트를 생성 API 테스트")
     @Test
     void testCreatePostsAPI() throws Exception {
@@ -143,10 +164,13 @@ public class PostControllerRestdocsTest {
                 .authorName(authorName)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .viewCount(faker.number().randomNumber())
                 .build();
 
         given(postService.findById(id))
                 .willReturn(postDetailResponse);
+        given(postViewCounter.view(postDetailResponse))
+                .willReturn(postDetailResponse);
 
         // when
         MockHttpServletRequestBuilder docsGetRequest = RestDocumentationRequestBuilders.get("/api/v1/posts/{id}", id);
@@ -164,7 +188,8 @@ public class PostControllerRestdocsTest {
                                 field("content", JsonFieldType.STRING, "Content"),
                                 field("authorName", JsonFieldType.STRING, "Author Name"),
                                 field("createdAt", JsonFieldType.STRING, "Creation Datetime"),
-                                field("updatedAt", JsonFieldType.STRING, "Last Update Datetime"))))
+                                field("updatedAt", JsonFieldType.STRING, "Last Update Datetime"),
+                                field("viewCount", JsonFieldType.NUMBER, "View Count"))))
                 .andDo(print());
     }
 
@@ -207,10 +232,13 @@ public class PostControllerRestdocsTest {
                 .authorName(authorName)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .viewCount(faker.number().randomNumber())
                 .build();
 
         given(postService.updateById(id, updatePostRequest))
                 .willReturn(postDetailResponse);
+        given(postViewCounter.count(postDetailResponse))
+                .willReturn(postDetailResponse);
 
         // when
         MockHttpServletRequestBuilder docsPutRequest = RestDocumentationRequestBuilders.put("/api/v1/posts/{id}", id);
@@ -233,7 +261,57 @@ public class PostControllerRestdocsTest {
                                 field("content", JsonFieldType.STRING, "Content"),
                                 field("authorName", JsonFieldType.STRING, "Author Name"),
                                 field("createdAt", JsonFieldType.STRING, "Creation Datetime"),
-                                field("updatedAt", JsonFieldType.STRING, "Last Update Datetime"))))
+                                field("updatedAt", JsonFieldType.STRING, "Last Update Datetime"),
+                                field("viewCount", JsonFieldType.NUMBER, "View Count"))))
+                .andDo(print());
+    }
+
+    @DisplayName("[PATCH] 포스트 부분 수정 API")
+    @Test
+    void testPatchByIdAPI() throws Exception {
+        // given
+        PatchPostRequest patchPostRequest = new PatchPostRequest(faker.book().title(), null);
+
+        long id = generateId();
+        PostDetailResponse postDetailResponse = PostDetailResponse.builder()
+                .id(id)
+                .title(patchPostRequest.title())
+                .authorName(faker.name().firstName())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .viewCount(faker.number().randomNumber())
+                .build();
+
+        given(postService.patchById(id, patchPostRequest))
+                .willReturn(postDetailResponse);
+        given(postViewCounter.count(postDetailResponse))
+                .willReturn(postDetailResponse);
+
+        // when
+        MockHttpServletRequestBuilder docsPatchRequest = RestDocumentationRequestBuilders.patch("/api/v1/posts/{id}",
+                id);
+        ResultActions actions = mockMvc.perform(docsPatchRequest
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patchPostRequest)));
+
+        // then
+        actions.andDo(document("post-patch",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("id").description("ID")),
+                        requestFields(
+                                field("title", JsonFieldType.STRING, "Title (unchanged if omitted)").optional(),
+                                field("content", JsonFieldType.STRING, "Content (unchanged if omitted)").optional()),
+                        responseFields(
+                                field("id", JsonFieldType.NUMBER, "ID"),
+                                field("title", JsonFieldType.STRING, "Title"),
+                                field("content", JsonFieldType.STRING, "Content (null when only the title is patched)")
+                                        .optional(),
+                                field("authorName", JsonFieldType.STRING, "Author Name"),
+                                field("createdAt", JsonFieldType.STRING, "Creation Datetime"),
+                                field("updatedAt", JsonFieldType.STRING, "Last Update Datetime"),
+                                field("viewCount", JsonFieldType.NUMBER, "View Count"))))
                 .andDo(print());
     }
 
@@ -271,7 +349,7 @@ public class PostControllerRestdocsTest {
     @Test
     void testFindNoContentAPI() throws Exception {
         // given
-        PageResponse<PostResponse> page = PageResponse.<PostResponse>builder()
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
                 .isEmpty(true)
                 .totalPages(1)
                 .totalElements(0L)
@@ -297,12 +375,12 @@ public class PostControllerRestdocsTest {
         int defaultPageSize = 10;
         int totalPages = (int) Math.ceil((double) totalCount / defaultPageSize);
         long contentSize = totalCount % defaultPageSize;
-        List<PostResponse> postResponses = generatePostResponsesOrderByAsc(contentSize);
-        PageResponse<PostResponse> page = PageResponse.<PostResponse>builder()
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(contentSize);
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
                 .isEmpty(false)
                 .totalPages(totalPages)
                 .totalElements(totalCount)
-                .content(postResponses)
+                .content(postSummaries)
                 .build();
 
         given(postService.getPage(any()))
@@ -326,7 +404,89 @@ public class PostControllerRestdocsTest {
                                 field("totalElements", JsonFieldType.NUMBER, "Total number of all posts"),
                                 field("content[].id", JsonFieldType.NUMBER, "Post Id"),
                                 field("content[].title", JsonFieldType.STRING, "Title"),
-                                field("content[].content", JsonFieldType.STRING, "Content"),
+                                field("content[].excerpt", JsonFieldType.STRING, "Excerpt of the content"),
+                                field("content[].authorName", JsonFieldType.STRING, "Author Name"),
+                                field("content[].createdAt", JsonFieldType.STRING, "Creation Datetime"))))
+                .andDo(print());
+    }
+
+    @DisplayName("[GET] 포스트를 커서 기반 조회 API")
+    @Test
+    void testFindByCursorAPI() throws Exception {
+        // given
+        int pageSize = 3;
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(pageSize);
+        CursorResponse<PostSummaryResponse> page = CursorResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .nextCursor("MjAyMy0xMS0wMVQxMjowMDowMHwz.c2lnbmF0dXJl")
+                .content(postSummaries)
+                .build();
+
+        given(postService.getCursorPage(any(), anyInt()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("after", "")
+                .param("size", String.valueOf(pageSize)));
+
+        // then
+        actions.andDo(document("post-cursor-page",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("after").description("Cursor of the previous page (empty for the first page)"),
+                                parameterWithName("size").description("Contents per Page")),
+                        responseFields(
+                                field("isEmpty", JsonFieldType.BOOLEAN, "True if no post is found"),
+                                field("hasNext", JsonFieldType.BOOLEAN, "True if there is a next page"),
+                                field("nextCursor", JsonFieldType.STRING, "Cursor for the next page").optional(),
+                                field("content[].id", JsonFieldType.NUMBER, "Post Id"),
+                                field("content[].title", JsonFieldType.STRING, "Title"),
+                                field("content[].excerpt", JsonFieldType.STRING, "Excerpt of the content"),
+                                field("content[].authorName", JsonFieldType.STRING, "Author Name"),
+                                field("content[].createdAt", JsonFieldType.STRING, "Creation Datetime"))))
+                .andDo(print());
+    }
+
+    @DisplayName("[GET] 포스트 검색 API")
+    @Test
+    void testSearchAPI() throws Exception {
+        // given
+        int pageSize = 3;
+        List<PostSummaryResponse> postSummaries = generatePostSummariesOrderByAsc(pageSize);
+        PageResponse<PostSummaryResponse> page = PageResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .totalPages(1)
+                .totalElements((long) pageSize)
+                .content(postSummaries)
+                .build();
+
+        given(postService.search(any(), any()))
+                .willReturn(page);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/search")
+                .param("q", "스프링")
+                .param("page", "0")
+                .param("size", String.valueOf(pageSize)));
+
+        // then
+        actions.andDo(document("post-search",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("q").description("Search keyword"),
+                                parameterWithName("page").description("Page"),
+                                parameterWithName("size").description("Contents per Page")),
+                        responseFields(
+                                field("isEmpty", JsonFieldType.BOOLEAN, "True if no post is found"),
+                                field("totalPages", JsonFieldType.NUMBER, "Total number of pages"),
+                                field("totalElements", JsonFieldType.NUMBER, "Total number of matching posts"),
+                                field("content[].id", JsonFieldType.NUMBER, "Post Id"),
+                                field("content[].title", JsonFieldType.STRING, "Title"),
+                                field("content[].excerpt", JsonFieldType.STRING, "Excerpt of the content"),
                                 field("content[].authorName", JsonFieldType.STRING, "Author Name"),
                                 field("content[].createdAt", JsonFieldType.STRING, "Creation Datetime"))))
                 .andDo(print());
@@ -375,26 +535,26 @@ public class PostControllerRestdocsTest {
                 .build();
     }
 
-    private List<PostResponse> generatePostResponsesOrderByAsc(long count) {
-        List<PostResponse> postResponses = new ArrayList<>();
+    private List<PostSummaryResponse> generatePostSummariesOrderByAsc(long count) {
+        List<PostSummaryResponse> postSummaries = new ArrayList<>();
 
         for (long id = 1; id <= count; id++) {
             String title = faker.book().title();
-            String content = faker.shakespeare().hamletQuote();
+            String excerpt = faker.shakespeare().hamletQuote();
             User author = generateAuthor();
 
-            PostResponse postResponse = PostResponse.builder()
+            PostSummaryResponse postSummary = PostSummaryResponse.builder()
                     .id(id)
                     .title(title)
-                    .content(content)
+                    .excerpt(excerpt)
                     .authorName(author.getName())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            postResponses.add(postResponse);
+            postSummaries.add(postSummary);
         }
 
-        return postResponses;
+        return postSummaries;
     }
 
     private long generateId() {
@@ -1,5 +1,8 @@
 package com.devcourse.springbootboardjpahi.docs;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
@@ -7,12 +10,18 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 
 import com.devcourse.springbootboardjpahi.controller.UserController;
 import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
 import com.devcourse.springbootboardjpahi.dto.UserResponse;
+import com.devcourse.springbootboardjpahi.service.BulkImportService;
 import com.devcourse.springbootboardjpahi.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
@@ -41,6 +50,8 @@ public class UserControllerRestdocsTest {
 
     @MockBean
     UserService userService;
+    @MockBean
+    BulkImportService bulkImportService;
     @Autowired
     MockMvc mockMvc;
     @Autowired
@@ -50,8 +61,14 @@ public class UserControllerRestdocsTest {
     @Test
     void testFindAllNoContentAPI() throws Exception {
         // given
-        given(userService.findAll())
-                .willReturn(Collections.emptyList());
+        CursorResponse<UserResponse> page = CursorResponse.<UserResponse>builder()
+                .isEmpty(true)
+                .hasNext(false)
+                .content(Collections.emptyList())
+                .build();
+
+        given(userService.getCursorPage(any(), anyInt()))
+                .willReturn(page);
 
         // when
         ResultActions actions = mockMvc.perform(get("/api/v1/users"));
@@ -66,23 +83,76 @@ public class UserControllerRestdocsTest {
     void testFindAllAPI() throws Exception {
         // given
         List<UserResponse> mockResponses = List.of(generateUserResponse(), generateUserResponse());
+        CursorResponse<UserResponse> page = CursorResponse.<UserResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .nextCursor("Mg.c2lnbmF0dXJl")
+                .content(mockResponses)
+                .build();
 
-        given(userService.findAll())
-                .willReturn(mockResponses);
+        given(userService.getCursorPage(any(), anyInt()))
+                .willReturn(page);
 
         // when
-        ResultActions actions = mockMvc.perform(get("/api/v1/users"));
+        ResultActions actions = mockMvc.perform(get("/api/v1/users")
+                .param("size", String.valueOf(mockResponses.size())));
 
         // then
         actions.andDo(document("user-find-all",
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
                         responseFields(
-                                field("[].id", JsonFieldType.NUMBER, "Id"),
-                                field("[].name", JsonFieldType.STRING, "Name"),
-                                field("[].age", JsonFieldType.NUMBER, "Age"),
-                                nullableField("[].hobby", JsonFieldType.STRING, "Hobby"),
-                                field("[].createdAt", JsonFieldType.STRING, "Creation Datetime"))))
+                                field("isEmpty", JsonFieldType.BOOLEAN, "True if no user is found"),
+                                field("hasNext", JsonFieldType.BOOLEAN, "True if there is a next page"),
+                                nullableField("nextCursor", JsonFieldType.STRING, "Cursor for the next page"),
+                                field("content[].id", JsonFieldType.NUMBER, "Id"),
+                                field("content[].name", JsonFieldType.STRING, "Name"),
+                                field("content[].age", JsonFieldType.NUMBER, "Age"),
+                                nullableField("content[].hobby", JsonFieldType.STRING, "Hobby"),
+                                field("content[].createdAt", JsonFieldType.STRING, "Creation Datetime"),
+                                field("content[].postCount", JsonFieldType.NUMBER, "Number of posts written"))))
+                .andDo(print());
+    }
+
+    @DisplayName("[GET] 사용자별 포스트 조회 API")
+    @Test
+    void testFindPostsAPI() throws Exception {
+        // given
+        long id = generateId();
+        List<UserPostResponse> posts = List.of(generateUserPostResponse(), generateUserPostResponse());
+        CursorResponse<UserPostResponse> page = CursorResponse.<UserPostResponse>builder()
+                .isEmpty(false)
+                .hasNext(true)
+                .nextCursor("Mg.c2lnbmF0dXJl")
+                .content(posts)
+                .build();
+
+        given(userService.getPostCursorPage(anyLong(), any(), anyInt()))
+                .willReturn(page);
+
+        // when
+        MockHttpServletRequestBuilder docsGetRequest = RestDocumentationRequestBuilders.get("/api/v1/users/{id}/posts",
+                id);
+        ResultActions actions = mockMvc.perform(docsGetRequest
+                .param("after", "")
+                .param("size", String.valueOf(posts.size())));
+
+        // then
+        actions.andDo(document("user-posts",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("id").description("User ID")),
+                        queryParameters(
+                                parameterWithName("after").description("Cursor of the previous page (empty for the first page)"),
+                                parameterWithName("size").description("Page size")),
+                        responseFields(
+                                field("isEmpty", JsonFieldType.BOOLEAN, "True if the user has no post"),
+                                field("hasNext", JsonFieldType.BOOLEAN, "True if there is a next page"),
+                                nullableField("nextCursor", JsonFieldType.STRING, "Cursor for the next page"),
+                                field("content[].id", JsonFieldType.NUMBER, "Post ID"),
+                                field("content[].title", JsonFieldType.STRING, "Title"),
+                                field("content[].createdAt", JsonFieldType.STRING, "Creation Datetime"))))
                 .andDo(print());
     }
 
@@ -97,6 +167,7 @@ public class UserControllerRestdocsTest {
                 .age(createUserRequest.age())
                 .hobby(createUserRequest.hobby())
                 .createdAt(LocalDateTime.now())
+                .postCount(0L)
                 .build();
 
         given(userService.create(createUserRequest))
@@ -117,7 +188,8 @@ public class UserControllerRestdocsTest {
                                 field("name", JsonFieldType.STRING, "Name"),
                                 field("age", JsonFieldType.NUMBER, "Age"),
                                 nullableField("hobby", JsonFieldType.STRING, "Hobby"),
-                                field("createdAt", JsonFieldType.STRING, "Creation Datetime"))))
+                                field("createdAt", JsonFieldType.STRING, "Creation Datetime"),
+                                field("postCount", JsonFieldType.NUMBER, "Number of posts written"))))
                 .andDo(print());
     }
 
@@ -129,12 +201,21 @@ public class UserControllerRestdocsTest {
         return new CreateUserRequest(name, age, hobby);
     }
 
+    UserPostResponse generateUserPostResponse() {
+        return UserPostResponse.builder()
+                .id(generateId())
+                .title(faker.book().title())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
     UserResponse generateUserResponse() {
         long id = generateId();
         String name = faker.name().firstName();
         int age = faker.number().numberBetween(0, 120);
         String hobby = faker.esports().game();
         LocalDateTime createdAt = LocalDateTime.now();
+        long postCount = faker.number().numberBetween(0, 100);
 
         return UserResponse.builder()
                 .id(id)
@@ -142,6 +223,7 @@ public class UserControllerRestdocsTest {
                 .age(age)
                 .hobby(hobby)
                 .createdAt(createdAt)
+                .postCount(postCount)
                 .build();
     }
 
@@ -198,4 +198,18 @@ class PostTest {
         assertThat(actual).isEqualTo(expected);
         assertThat(afterUpdated).isAfter(beforeUpdated);
     }
+
+    @DisplayName("요약은 본문 앞부분을 문자 단위로 자른다.")
+    @Test
+    void testExcerptOf() {
+        // given
+        String content = "\uD83D\uDE00".repeat(Post.EXCERPT_LENGTH + 1);
+
+        // when
+        String excerpt = Post.excerptOf(content);
+
+        // then
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(Post.EXCERPT_LENGTH);
+        assertThat(content).startsWith(excerpt);
+    }
 }
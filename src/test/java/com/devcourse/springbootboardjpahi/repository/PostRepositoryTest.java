@@ -0,0 +1,179 @@
+package com.devcourse.springbootboardjpahi.repository;
+
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.assertSelectCount;
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.resetQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devcourse.springbootboardjpahi.config.DataSourceProxyConfig;
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
+import com.github.javafaker.Faker;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceProxyConfig.class)
+class PostRepositoryTest {
+
+    static final Faker faker = new Faker();
+
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    TestEntityManager entityManager;
+
+    @DisplayName("작성자가 모두 달라도 최신 포스트 목록은 select 문 한 번으로 조회한다.")
+    @Test
+    void testFindLatestQueryCount() {
+        // given
+        int count = 5;
+
+        for (int i = 0; i < count; i++) {
+            persistPost(persistAuthor());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        resetQueryCount();
+
+        // when
+        List<PostSummaryResponse> posts = postRepository.findLatest(PageRequest.ofSize(count));
+
+        // then
+        assertThat(posts).hasSize(count)
+                .extracting(PostSummaryResponse::authorName)
+                .doesNotContainNull();
+        assertSelectCount(1);
+    }
+
+    @DisplayName("포스트를 작성자와 함께 조회하면 작성자 이름을 읽어도 추가 select 문이 없다.")
+    @Test
+    void testFindWithUserByIdQueryCount() {
+        // given
+        User author = persistAuthor();
+        Post post = persistPost(author);
+
+        entityManager.flush();
+        entityManager.clear();
+        resetQueryCount();
+
+        // when
+        Optional<Post> actual = postRepository.findWithUserById(post.getId());
+
+        // then
+        assertThat(actual).isNotEmpty();
+        assertThat(actual.get().getUser().getName()).isEqualTo(author.getName());
+        assertSelectCount(1);
+    }
+
+    @DisplayName("포스트 엔티티를 조회해도 본문은 읽기 전까지 조회하지 않는다.")
+    @Test
+    void testContentIsLazy() {
+        // given
+        Post post = persistPost(persistAuthor());
+        String content = post.getContent();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Post actual = postRepository.findWithUserById(post.getId())
+                .orElseThrow();
+
+        // then
+        assertThat(Hibernate.isPropertyInitialized(actual, "content")).isFalse();
+        assertThat(actual.getExcerpt()).isEqualTo(Post.excerptOf(content));
+
+        resetQueryCount();
+
+        assertThat(actual.getContent()).isEqualTo(content);
+        assertSelectCount(1);
+    }
+
+    @DisplayName("작성자별 포스트 목록은 최신순으로 select 문 한 번에 조회한다.")
+    @Test
+    void testFindLatestByUserId() {
+        // given
+        User author = persistAuthor();
+        User other = persistAuthor();
+        int count = 5;
+
+        for (int i = 0; i < count; i++) {
+            persistPost(author);
+            persistPost(other);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        resetQueryCount();
+
+        // when
+        List<UserPostResponse> posts = postRepository.findLatestByUserId(author.getId(), PageRequest.ofSize(count));
+
+        // then
+        assertThat(posts).hasSize(count)
+                .extracting(UserPostResponse::createdAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertSelectCount(1);
+    }
+
+    @DisplayName("작성자별 포스트 목록은 테이블을 읽지 않고 커버링 인덱스만으로 조회한다.")
+    @Test
+    void testFindLatestByUserIdUsesCoveringIndex() {
+        // given
+        User author = persistAuthor();
+
+        persistPost(author);
+        entityManager.flush();
+
+        // when
+        Object[] plan = (Object[]) entityManager.getEntityManager()
+                .createNativeQuery("""
+                        explain select p.id, p.title, p.created_at
+                        from posts p
+                        where p.user_id = :userId
+                        order by p.created_at desc, p.id desc
+                        limit 11
+                        """)
+                .setParameter("userId", author.getId())
+                .getSingleResult();
+
+        // then
+        assertThat(plan[6]).isEqualTo("idx_posts_user_id_created_at_id");
+        assertThat((String) plan[11]).contains("Using index")
+                .doesNotContain("Using filesort");
+    }
+
+    private User persistAuthor() {
+        User author = User.builder()
+                .name(faker.name().firstName())
+                .age(faker.number().numberBetween(0, 120))
+                .hobby(faker.esports().game())
+                .build();
+
+        return entityManager.persist(author);
+    }
+
+    private Post persistPost(User author) {
+        Post post = Post.builder()
+                .title(faker.book().title())
+                .content(faker.shakespeare().hamletQuote())
+                .user(author)
+                .build();
+
+        return entityManager.persist(post);
+    }
+}
@@ -0,0 +1,76 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Batch;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Rejection;
+import com.devcourse.springbootboardjpahi.message.UserExceptionMessage;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+
+class BulkImportRunnerTest {
+
+    BulkImportService bulkImportService = mock(BulkImportService.class);
+    BulkImportRunner bulkImportRunner = new BulkImportRunner(bulkImportService);
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("가져오기 인자가 있을 때만 가져오기 명령으로 본다.")
+    @Test
+    void testIsImportCommand() {
+        // when
+        boolean importCommand = BulkImportRunner.isImportCommand("--import.users=users.ndjson");
+        boolean serverCommand = BulkImportRunner.isImportCommand("--server.port=8080");
+
+        // then
+        assertThat(importCommand).isTrue();
+        assertThat(serverCommand).isFalse();
+    }
+
+    @DisplayName("거절된 레코드가 있으면 종료 코드 1을 돌려준다.")
+    @Test
+    void testExitCodeWithRejections() throws IOException {
+        // given
+        Path file = Files.writeString(directory.resolve("users.ndjson"), "{}\n");
+        ImportResponse response = new ImportResponse(1, 0, 1, true,
+                List.of(new Batch(1, 1, 1, 0, List.of(new Rejection(1, UserExceptionMessage.BLANK_NAME)))));
+
+        given(bulkImportService.importUsers(any(), eq(ImportFormat.NDJSON)))
+                .willReturn(response);
+
+        // when
+        bulkImportRunner.run(new DefaultApplicationArguments("--import.users=" + file));
+
+        // then
+        assertThat(bulkImportRunner.getExitCode()).isEqualTo(1);
+    }
+
+    @DisplayName("모든 레코드를 가져오면 종료 코드 0을 돌려준다.")
+    @Test
+    void testExitCode() throws IOException {
+        // given
+        Path file = Files.writeString(directory.resolve("posts.csv"), "title,content,userId\n");
+
+        given(bulkImportService.importPosts(any(), eq(ImportFormat.CSV)))
+                .willReturn(new ImportResponse(0, 0, 0, true, List.of()));
+
+        // when
+        bulkImportRunner.run(new DefaultApplicationArguments("--import.posts=" + file));
+
+        // then
+        assertThat(bulkImportRunner.getExitCode()).isZero();
+    }
+}
@@ -0,0 +1,173 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Batch;
+import com.devcourse.springbootboardjpahi.dto.ImportResponse.Rejection;
+import com.devcourse.springbootboardjpahi.dto.UserResponse;
+import com.devcourse.springbootboardjpahi.message.ImportExceptionMessage;
+import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
+import com.devcourse.springbootboardjpahi.message.UserExceptionMessage;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.devcourse.springbootboardjpahi.support.ImportFormat;
+import com.github.javafaker.Faker;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "board.import.batch-size=3")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(Lifecycle.PER_CLASS)
+class BulkImportServiceTest {
+
+    static final Faker faker = new Faker();
+
+    @Autowired
+    BulkImportService bulkImportService;
+    @Autowired
+    UserService userService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PostRepository postRepository;
+
+    @BeforeAll
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("NDJSON 유저를 배치로 저장하고 거절된 레코드를 배치별로 알려준다.")
+    @Test
+    void testImportUsers() {
+        // given
+        InputStream input = stream("""
+                {"name":"%s","age":20,"hobby":"%s"}
+                {"name":" ","age":20}
+                {"name":"%s","age":30}
+                {"name":"%s","age":-1}
+                {"name":"%s","age":"abc"}
+                {"name":"%s","age":40}
+                {"name":"%s","age":50}
+                """.formatted(name(), faker.esports().game(), name(), name(), name(), name(), name()));
+
+        // when
+        ImportResponse response = bulkImportService.importUsers(input, ImportFormat.NDJSON);
+
+        // then
+        assertThat(response.read()).isEqualTo(7);
+        assertThat(response.imported()).isEqualTo(4);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.completed()).isTrue();
+        assertThat(response.failedBatches()).containsExactly(
+                new Batch(1, 1, 3, 2, List.of(new Rejection(2, UserExceptionMessage.BLANK_NAME))),
+                new Batch(2, 4, 6, 1, List.of(
+                        new Rejection(4, UserExceptionMessage.NEGATIVE_AGE),
+                        new Rejection(5, ImportExceptionMessage.INVALID_RECORD))));
+        assertThat(userRepository.findAll()).extracting(User::getAge)
+                .containsExactlyInAnyOrder(20, 30, 40, 50);
+    }
+
+    @DisplayName("CSV 포스트를 저장하고 작성자의 포스트 수를 함께 늘린다.")
+    @Test
+    void testImportPosts() {
+        // given
+        User author = userRepository.save(User.builder()
+                .name(name())
+                .age(faker.number().numberBetween(0, 120))
+                .build());
+        String content = faker.lorem().characters(Post.EXCERPT_LENGTH * 2);
+        InputStream input = stream("""
+                title,content,userId
+                %s,%s,%d
+                %s,%s,%d
+                ,%s,%d
+                %s,%s,%d
+                """.formatted(
+                faker.lorem().word(), content, author.getId(),
+                faker.lorem().word(), content, Long.MAX_VALUE,
+                content, author.getId(),
+                faker.lorem().word(), content, author.getId()));
+
+        // when
+        ImportResponse response = bulkImportService.importPosts(input, ImportFormat.CSV);
+
+        // then
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failedBatches()).containsExactly(
+                new Batch(1, 1, 3, 1, List.of(
+                        new Rejection(2, PostExceptionMessage.NO_SUCH_USER),
+                        new Rejection(3, PostExceptionMessage.BLANK_TITLE))));
+        assertThat(postRepository.findAll()).extracting(Post::getExcerpt)
+                .containsOnly(Post.excerptOf(content));
+        assertThat(userRepository.findById(author.getId())).get()
+                .extracting(User::getPostCount)
+                .isEqualTo(2L);
+    }
+
+    @DisplayName("문법 오류를 만나면 앞선 레코드까지만 저장하고 중단한다.")
+    @Test
+    void testImportMalformed() {
+        // given
+        InputStream input = stream("""
+                {"name":"%s","age":20}
+                {"name":"%s","age":30}
+                {"name":
+                """.formatted(name(), name()));
+
+        // when
+        ImportResponse response = bulkImportService.importUsers(input, ImportFormat.NDJSON);
+
+        // then
+        assertThat(response.completed()).isFalse();
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failedBatches()).containsExactly(
+                new Batch(1, 1, 3, 2, List.of(new Rejection(3, ImportExceptionMessage.MALFORMED_INPUT))));
+        assertThat(userRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("가져온 유저의 id 는 JPA 로 생성한 유저의 id 와 겹치지 않는다.")
+    @Test
+    void testImportedIdsDoNotCollide() {
+        // given
+        UserResponse before = userService.create(new CreateUserRequest(name(), 20, null));
+        InputStream input = stream("""
+                {"name":"%s","age":20}
+                {"name":"%s","age":30}
+                """.formatted(name(), name()));
+
+        // when
+        bulkImportService.importUsers(input, ImportFormat.NDJSON);
+        UserResponse after = userService.create(new CreateUserRequest(name(), 40, null));
+
+        // then
+        assertThat(userRepository.findAll()).extracting(User::getId)
+                .hasSize(4)
+                .doesNotHaveDuplicates()
+                .contains(before.id(), after.id());
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String name() {
+        return faker.name().firstName();
+    }
+}
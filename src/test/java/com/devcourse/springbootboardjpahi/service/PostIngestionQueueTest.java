@@ -0,0 +1,179 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.exception.IngestionRejectedException;
+import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.github.javafaker.Faker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+@SpringBootTest(properties = {
+        "board.post.ingestion.enabled=true",
+        "board.post.ingestion.max-delay=50ms",
+        "board.post.ingestion.max-wait=500ms"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(Lifecycle.PER_CLASS)
+class PostIngestionQueueTest {
+
+    static final Faker faker = new Faker();
+
+    @Autowired
+    PostIngestionQueue postIngestionQueue;
+    @SpyBean
+    PostService postService;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeAll
+    @AfterEach
+    void clear() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("동시에 들어온 생성 요청을 묶어 커밋하고 각자 아이디를 돌려받는다.")
+    @Test
+    void testCreate() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        int count = 50;
+
+        // when
+        List<CompletableFuture<PostResponse>> futures = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            CreatePostRequest request = generateCreateRequest(author.getId());
+
+            futures.add(CompletableFuture.supplyAsync(() -> postIngestionQueue.create(request)));
+        }
+
+        List<PostResponse> responses = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        // then
+        assertThat(responses).extracting(PostResponse::id)
+                .doesNotHaveDuplicates()
+                .hasSize(count);
+        assertThat(postRepository.count()).isEqualTo(count);
+    }
+
+    @DisplayName("묶음 안의 잘못된 요청은 그 요청만 실패한다.")
+    @Test
+    void testCreateWithInvalidRequest() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        CreatePostRequest valid = generateCreateRequest(author.getId());
+        CreatePostRequest invalid = generateCreateRequest(author.getId() + 1);
+
+        // when
+        CompletableFuture<PostResponse> validFuture = CompletableFuture.supplyAsync(
+                () -> postIngestionQueue.create(valid));
+        CompletableFuture<PostResponse> invalidFuture = CompletableFuture.supplyAsync(
+                () -> postIngestionQueue.create(invalid));
+
+        // then
+        assertThat(validFuture.join().title()).isEqualTo(valid.title());
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(invalidFuture::join)
+                .havingCause()
+                .isInstanceOf(NoSuchElementException.class)
+                .withMessage(PostExceptionMessage.NO_SUCH_USER);
+        assertThat(postRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("커밋이 시작되기 전에 대기 시간이 지난 요청은 취소되고 저장되지 않는다.")
+    @Test
+    void testCreateTimeout() throws InterruptedException {
+        // given
+        User author = userRepository.save(generateAuthor());
+        CreatePostRequest first = generateCreateRequest(author.getId());
+        CreatePostRequest second = generateCreateRequest(author.getId());
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        willAnswer(invocation -> {
+            committing.countDown();
+            release.await();
+
+            return invocation.callRealMethod();
+        }).given(postService).createAll(anyList());
+
+        CompletableFuture<PostResponse> firstFuture = CompletableFuture.supplyAsync(
+                () -> postIngestionQueue.create(first));
+
+        committing.await();
+
+        // when
+        Throwable thrown = catchThrowable(() -> postIngestionQueue.create(second));
+
+        release.countDown();
+
+        // then
+        assertThat(thrown).isInstanceOf(IngestionRejectedException.class)
+                .hasMessage(PostExceptionMessage.INGESTION_TIMEOUT);
+        assertThat(firstFuture.join().title()).isEqualTo(first.title());
+        assertThat(postRepository.findAll()).extracting(Post::getTitle)
+                .containsExactly(first.title());
+    }
+
+    @DisplayName("대기 시간이 지나도 이미 커밋 중인 요청은 거절하지 않고 결과를 돌려받는다.")
+    @Test
+    void testCreateTimeoutWhileCommitting() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        CreatePostRequest request = generateCreateRequest(author.getId());
+
+        willAnswer(invocation -> {
+            Thread.sleep(1_000);
+
+            return invocation.callRealMethod();
+        }).given(postService).createAll(anyList());
+
+        // when
+        PostResponse response = postIngestionQueue.create(request);
+
+        // then
+        assertThat(response.title()).isEqualTo(request.title());
+        assertThat(postRepository.count()).isEqualTo(1);
+    }
+
+    private User generateAuthor() {
+        return User.builder()
+                .name(faker.name().firstName())
+                .age(faker.number().numberBetween(0, 120))
+                .hobby(faker.esports().game())
+                .build();
+    }
+
+    private CreatePostRequest generateCreateRequest(long userId) {
+        return new CreatePostRequest(faker.book().title(), faker.shakespeare().hamletQuote(), userId);
+    }
+}
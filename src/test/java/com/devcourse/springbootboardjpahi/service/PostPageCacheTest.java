@@ -0,0 +1,125 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.service.PostPageCache.SerializedPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.javafaker.Faker;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.unit.DataSize;
+
+class PostPageCacheTest {
+
+    static final Faker faker = new Faker();
+    static final int HOT_PAGES = 2;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    PostPageCache postPageCache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        postPageCache = new PostPageCache(objectMapper, HOT_PAGES, DataSize.ofMegabytes(1), Duration.ofMinutes(1), true);
+        loads = new AtomicInteger();
+    }
+
+    @DisplayName("앞쪽 페이지는 한 번만 조회하고 같은 바이트를 재사용한다.")
+    @Test
+    void testGetHotPage() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        SerializedPage first = postPageCache.get(pageable, loader(generatePage()));
+
+        // when
+        SerializedPage second = postPageCache.get(pageable, loader(generatePage()));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("뒤쪽 페이지는 캐시하지 않는다.")
+    @Test
+    void testGetColdPage() {
+        // given
+        Pageable pageable = PageRequest.of(HOT_PAGES, 10);
+
+        postPageCache.get(pageable, loader(generatePage()));
+
+        // when
+        SerializedPage page = postPageCache.get(pageable, loader(generatePage()));
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(page.gzipped()).isNull();
+    }
+
+    @DisplayName("무효화하면 다음 요청에서 다시 조회한다.")
+    @Test
+    void testInvalidateAll() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        postPageCache.get(pageable, loader(generatePage()));
+
+        // when
+        postPageCache.invalidateAll();
+        postPageCache.get(pageable, loader(generatePage()));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("미리 압축한 바이트는 직렬화된 JSON 과 같다.")
+    @Test
+    void testGzipped() throws IOException {
+        // given
+        PageResponse<PostSummaryResponse> page = generatePage();
+
+        // when
+        SerializedPage serialized = postPageCache.get(PageRequest.of(0, 10), loader(page));
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(serialized.gzipped()))) {
+            assertThat(in.readAllBytes()).isEqualTo(serialized.json());
+        }
+
+        assertThat(serialized.json()).isEqualTo(objectMapper.writeValueAsBytes(page));
+    }
+
+    private Supplier<PageResponse<PostSummaryResponse>> loader(PageResponse<PostSummaryResponse> page) {
+        return () -> {
+            loads.incrementAndGet();
+
+            return page;
+        };
+    }
+
+    private PageResponse<PostSummaryResponse> generatePage() {
+        List<PostSummaryResponse> content = List.of(new PostSummaryResponse(faker.number().randomNumber(),
+                faker.book().title(), faker.shakespeare().hamletQuote(), faker.name().firstName(),
+                LocalDateTime.now()));
+
+        return PageResponse.<PostSummaryResponse>builder()
+                .isEmpty(false)
+                .totalPages(1)
+                .totalElements(1L)
+                .content(content)
+                .build();
+    }
+}
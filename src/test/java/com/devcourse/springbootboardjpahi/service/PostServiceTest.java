@@ -1,22 +1,43 @@
 package com.devcourse.springbootboardjpahi.service;
 
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.assertQueryCount;
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.assertSelectCount;
+import static com.devcourse.springbootboardjpahi.support.QueryCountAssertions.resetQueryCount;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import com.devcourse.springbootboardjpahi.config.CacheConfig;
 import com.devcourse.springbootboardjpahi.domain.Post;
 import com.devcourse.springbootboardjpahi.domain.User;
 import com.devcourse.springbootboardjpahi.dto.CreatePostRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
 import com.devcourse.springbootboardjpahi.dto.PageResponse;
+import com.devcourse.springbootboardjpahi.dto.PatchPostRequest;
 import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import com.devcourse.springbootboardjpahi.dto.PostExportResponse;
 import com.devcourse.springbootboardjpahi.dto.PostResponse;
+import com.devcourse.springbootboardjpahi.dto.PostSummaryResponse;
+import com.devcourse.springbootboardjpahi.dto.SliceResponse;
 import com.devcourse.springbootboardjpahi.dto.UpdatePostRequest;
+import com.devcourse.springbootboardjpahi.exception.InvalidCursorException;
+import com.devcourse.springbootboardjpahi.message.CursorExceptionMessage;
 import com.devcourse.springbootboardjpahi.message.PostExceptionMessage;
 import com.devcourse.springbootboardjpahi.repository.PostRepository;
 import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.devcourse.springbootboardjpahi.service.PostPageCache.SerializedPage;
+import com.devcourse.springbootboardjpahi.support.PostETag;
 import com.github.javafaker.Faker;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +47,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -42,12 +64,23 @@ class PostServiceTest {
     PostRepository postRepository;
     @Autowired
     UserRepository userRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    PostCountCache postCountCache;
+    @Autowired
+    CacheManager cacheManager;
+    @Autowired
+    PostPageCache postPageCache;
 
     @BeforeAll
     @AfterEach
     void clear() {
         postRepository.deleteAll();
         userRepository.deleteAll();
+        cacheManager.getCacheNames()
+                .forEach(name -> cacheManager.getCache(name).clear());
+        postPageCache.invalidateAll();
     }
 
     @DisplayName("포스트를 생성한다.")
@@ -70,6 +103,120 @@ class PostServiceTest {
                 .hasFieldOrPropertyWithValue("content", response.content());
     }
 
+    @DisplayName("이미 확인한 작성자로 포스트를 생성할 때는 작성자를 다시 조회하지 않는다.")
+    @Test
+    void testCreateWithKnownAuthor() {
+        // given
+        User author = userRepository.save(generateAuthor());
+
+        postService.create(generateCreateRequest(author.getId()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        statistics.clear();
+        resetQueryCount();
+
+        // when
+        PostResponse response = postService.create(generateCreateRequest(author.getId()));
+
+        // then
+        assertThat(response.authorName()).isEqualTo(author.getName());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertQueryCount(0, 1, 1, 0);
+    }
+
+    @DisplayName("포스트를 생성하면 커밋 후 캐시된 목록 페이지를 비운다.")
+    @Test
+    void testCreateInvalidatesPageCache() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        postPageCache.get(pageable, () -> postService.getPage(pageable));
+
+        // when
+        postService.create(generateCreateRequest(author.getId()));
+
+        // then
+        PageResponse<PostSummaryResponse> reloaded = postService.getPage(pageable);
+        SerializedPage page = postPageCache.get(pageable, () -> reloaded);
+
+        assertThat(page.isEmpty()).isFalse();
+    }
+
+    @DisplayName("전체 포스트를 select 문 한 번으로 아이디 순으로 순회한다.")
+    @Test
+    void testForEach() {
+        // given
+        int count = faker.number().numberBetween(5, 10);
+
+        savePosts(count);
+        resetQueryCount();
+
+        // when
+        List<PostExportResponse> posts = new ArrayList<>();
+
+        postService.forEach(posts::add);
+
+        // then
+        assertThat(posts).hasSize(count)
+                .extracting(PostExportResponse::id)
+                .isSorted();
+        assertThat(posts).extracting(PostExportResponse::content)
+                .doesNotContainNull();
+        assertSelectCount(1);
+    }
+
+    @DisplayName("여러 포스트를 배치로 한 번에 생성한다.")
+    @Test
+    void testCreateAll() {
+        // given
+        int count = 50;
+        User author = userRepository.save(generateAuthor());
+        List<CreatePostRequest> requests = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            requests.add(generateCreateRequest(author.getId()));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        statistics.clear();
+
+        // when
+        List<PostResponse> responses = postService.createAll(requests);
+
+        // then
+        assertThat(responses).hasSize(count)
+                .extracting(PostResponse::id)
+                .doesNotHaveDuplicates();
+        assertThat(postRepository.count()).isEqualTo(count);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(count);
+        assertThat(userRepository.findById(author.getId())).get()
+                .extracting(User::getPostCount)
+                .isEqualTo((long) count);
+    }
+
+    @DisplayName("존재하지 않는 유저가 포함되면 배치 생성 전체가 실패한다.")
+    @Test
+    void testCreateAllNonExistentUser() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        List<CreatePostRequest> requests = List.of(
+                generateCreateRequest(author.getId()),
+                generateCreateRequest(author.getId() + 1));
+
+        // when
+        ThrowingCallable target = () -> postService.createAll(requests);
+
+        // then
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(target)
+                .withMessage(PostExceptionMessage.NO_SUCH_USER);
+        assertThat(postRepository.count()).isZero();
+    }
+
     @DisplayName("존재하지 않는 유저의 아이디일 경우 포스트 생성에 실패한다.")
     @Test
     void testCreateNonExistentUser() {
@@ -105,6 +252,182 @@ class PostServiceTest {
                 .hasFieldOrPropertyWithValue("authorName", post.authorName());
     }
 
+    @DisplayName("한 번 조회한 포스트는 데이터베이스를 거치지 않고 캐시에서 조회한다.")
+    @Test
+    void testFindByIdCached() {
+        // given
+        Post post = savePost();
+
+        postService.findById(post.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        statistics.clear();
+
+        // when
+        PostDetailResponse cached = postService.findById(post.getId());
+
+        // then
+        assertThat(cached).hasFieldOrPropertyWithValue("id", post.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("포스트 상세 조회는 작성자를 함께 읽어 select 문을 한 번만 실행한다.")
+    @Test
+    void testFindByIdQueryCount() {
+        // given
+        Post post = savePost();
+
+        resetQueryCount();
+
+        // when
+        postService.findById(post.getId());
+
+        // then
+        assertQueryCount(1, 0, 0, 0);
+    }
+
+    @DisplayName("포스트 수정은 select 와 update 를 한 번씩만 실행한다.")
+    @Test
+    void testUpdateByIdQueryCount() {
+        // given
+        Post post = savePost();
+        UpdatePostRequest request = generateUpdateRequest();
+
+        resetQueryCount();
+
+        // when
+        postService.updateById(post.getId(), request);
+
+        // then
+        assertQueryCount(1, 0, 1, 0);
+    }
+
+    @DisplayName("포스트의 제목만 부분 수정하면 캐시된 상세 정보를 비우고 본문 없이 수정된 상태를 반환한다.")
+    @Test
+    void testPatchByIdEvictsCache() {
+        // given
+        Post post = savePost();
+
+        postService.findById(post.getId());
+
+        PatchPostRequest request = new PatchPostRequest(faker.book().title(), null);
+
+        resetQueryCount();
+
+        // when
+        PostDetailResponse patched = postService.patchById(post.getId(), request);
+
+        // then
+        assertQueryCount(1, 0, 1, 0);
+        assertThat(patched)
+                .hasFieldOrPropertyWithValue("title", request.title())
+                .hasFieldOrPropertyWithValue("content", null);
+        assertThat(cacheManager.getCache(CacheConfig.POST_DETAIL).get(post.getId())).isNull();
+        assertThat(postService.findById(post.getId()))
+                .hasFieldOrPropertyWithValue("title", request.title())
+                .hasFieldOrPropertyWithValue("content", post.getContent())
+                .hasFieldOrPropertyWithValue("updatedAt", patched.updatedAt());
+    }
+
+    @DisplayName("서로 다른 필드를 차례로 부분 수정해도 두 수정이 모두 상세 정보에 남는다.")
+    @Test
+    void testPatchByIdDifferentFields() {
+        // given
+        Post post = savePost();
+        PatchPostRequest titlePatch = new PatchPostRequest(faker.book().title(), null);
+        PatchPostRequest contentPatch = new PatchPostRequest(null, faker.shakespeare().kingRichardIIIQuote());
+
+        postService.findById(post.getId());
+
+        // when
+        postService.patchById(post.getId(), titlePatch);
+        postService.patchById(post.getId(), contentPatch);
+
+        // then
+        assertThat(postService.findById(post.getId()))
+                .hasFieldOrPropertyWithValue("title", titlePatch.title())
+                .hasFieldOrPropertyWithValue("content", contentPatch.content());
+    }
+
+    @DisplayName("캐시에 없는 포스트를 부분 수정하면 수정된 상태를 다시 읽어 반환한다.")
+    @Test
+    void testPatchById() {
+        // given
+        Post post = savePost();
+        PatchPostRequest request = new PatchPostRequest(null, faker.shakespeare().kingRichardIIIQuote());
+
+        // when
+        PostDetailResponse patched = postService.patchById(post.getId(), request);
+
+        // then
+        PostDetailResponse actual = postRepository.findDetailById(post.getId())
+                .orElseThrow();
+
+        assertThat(patched)
+                .hasFieldOrPropertyWithValue("title", post.getTitle())
+                .hasFieldOrPropertyWithValue("content", request.content());
+        assertThat(actual.content()).isEqualTo(request.content());
+        assertThat(actual.updatedAt()).isEqualTo(patched.updatedAt());
+    }
+
+    @DisplayName("존재하지 않는 포스트는 부분 수정할 수 없다.")
+    @Test
+    void testPatchByIdNonExistentId() {
+        // given
+        long id = faker.random().nextLong();
+        PatchPostRequest request = new PatchPostRequest(faker.book().title(), null);
+
+        // when
+        ThrowingCallable target = () -> postService.patchById(id, request);
+
+        // then
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(target)
+                .withMessage(PostExceptionMessage.NO_SUCH_POST);
+    }
+
+    @DisplayName("포스트를 수정하면 캐시된 상세 정보를 비우고 다음 조회에서 수정된 상태를 읽는다.")
+    @Test
+    void testUpdateByIdEvictsCache() {
+        // given
+        Post post = savePost();
+
+        postService.findById(post.getId());
+
+        UpdatePostRequest request = generateUpdateRequest();
+
+        // when
+        postService.updateById(post.getId(), request);
+
+        // then
+        assertThat(cacheManager.getCache(CacheConfig.POST_DETAIL).get(post.getId())).isNull();
+
+        PostDetailResponse actual = postService.findById(post.getId());
+
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("title", request.title())
+                .hasFieldOrPropertyWithValue("content", request.content());
+    }
+
+    @DisplayName("포스트의 ETag는 수정 후 달라진다.")
+    @Test
+    void testGetETag() throws InterruptedException {
+        // given
+        Post post = savePost();
+        String before = postService.getETag(post.getId());
+
+        Thread.sleep(10);
+
+        // when
+        PostDetailResponse updated = postService.updateById(post.getId(), generateUpdateRequest());
+        String after = postService.getETag(post.getId());
+
+        // then
+        assertThat(before).isNotEqualTo(after);
+        assertThat(after).isEqualTo(PostETag.of(updated));
+    }
+
     @DisplayName("존재하지 않는 포스트의 조회를 실패한다.")
     @Test
     void testFindByIdNonExistentId() {
@@ -150,7 +473,7 @@ class PostServiceTest {
     @Test
     void testGetPageEmpty() {
         // given // when
-        PageResponse<PostResponse> page = postService.getPage(Pageable.unpaged());
+        PageResponse<PostSummaryResponse> page = postService.getPage(Pageable.unpaged());
 
         // then
         assertThat(page.isEmpty()).isTrue();
@@ -170,7 +493,7 @@ class PostServiceTest {
 
         // when
         PageRequest pageRequest = PageRequest.ofSize(pageSize);
-        PageResponse<PostResponse> page = postService.getPage(pageRequest);
+        PageResponse<PostSummaryResponse> page = postService.getPage(pageRequest);
 
         // then
         int expectedPages = (int) Math.ceil((double) totalCount / pageSize);
@@ -181,6 +504,149 @@ class PostServiceTest {
         assertThat(page.content()).hasSize(pageSize);
     }
 
+    @DisplayName("페이징 조회 시 내용은 잘라낸 발췌문만 반환한다.")
+    @Test
+    void testGetPageExcerpt() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        String content = "a".repeat(PostSummaryResponse.EXCERPT_LENGTH * 2);
+        Post post = Post.builder()
+                .title(faker.book().title())
+                .content(content)
+                .user(author)
+                .build();
+
+        postRepository.save(post);
+
+        // when
+        PageResponse<PostSummaryResponse> page = postService.getPage(PageRequest.ofSize(1));
+
+        // then
+        assertThat(page.content()).singleElement()
+                .extracting(PostSummaryResponse::excerpt)
+                .isEqualTo(content.substring(0, PostSummaryResponse.EXCERPT_LENGTH));
+    }
+
+    @DisplayName("페이지 크기와 관계없이 페이징 조회는 일정한 수의 쿼리만 실행한다.")
+    @Test
+    void testGetPageStatementCount() {
+        // given
+        savePosts(30);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        // when
+        statistics.clear();
+        postService.getPage(PageRequest.ofSize(5));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        postService.getPage(PageRequest.ofSize(25));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(smallPageStatements).isEqualTo(largePageStatements)
+                .isEqualTo(2);
+
+        resetQueryCount();
+        postService.getPage(PageRequest.ofSize(25));
+        assertSelectCount(2);
+    }
+
+    @DisplayName("검색어가 포함된 포스트만 관련도 순으로 검색한다.")
+    @Test
+    void testSearch() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        Post titleAndContent = savePost(author, "스프링 부트 게시판", "스프링 데이터 JPA 로 만든 게시판");
+        Post contentOnly = savePost(author, "게시판 회고", "스프링 없이 만들어 본 게시판");
+        Post unrelated = savePost(author, "자바 컬렉션", "리스트와 맵의 차이");
+
+        // when
+        PageResponse<PostSummaryResponse> page = postService.search("스프링", PageRequest.ofSize(10));
+
+        // then
+        assertThat(page.totalElements()).isEqualTo(2);
+        assertThat(page.content()).extracting(PostSummaryResponse::id)
+                .containsExactly(titleAndContent.getId(), contentOnly.getId())
+                .doesNotContain(unrelated.getId());
+    }
+
+    @DisplayName("전체 개수를 세지 않고 슬라이스로 조회한다.")
+    @Test
+    void testGetSlice() {
+        // given
+        int totalCount = 15;
+        int pageSize = 10;
+
+        savePosts(totalCount);
+        postCountCache.refresh();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        statistics.clear();
+
+        // when
+        SliceResponse<PostSummaryResponse> slice = postService.getSlice(PageRequest.ofSize(pageSize));
+
+        // then
+        assertThat(slice.isEmpty()).isFalse();
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.content()).hasSize(pageSize);
+        assertThat(slice.approximateTotalElements()).isEqualTo(totalCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("커서로 포스트를 끝까지 중복 없이 조회한다.")
+    @Test
+    void testGetCursorPage() {
+        // given
+        int totalCount = 25;
+        int pageSize = 10;
+
+        savePosts(totalCount);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        CursorResponse<PostSummaryResponse> page = postService.getCursorPage(null, pageSize);
+
+        page.content().forEach(post -> ids.add(post.id()));
+
+        while (page.hasNext()) {
+            page = postService.getCursorPage(page.nextCursor(), pageSize);
+            page.content().forEach(post -> ids.add(post.id()));
+        }
+
+        // then
+        assertThat(ids).hasSize(totalCount)
+                .doesNotHaveDuplicates();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @DisplayName("변조된 커서로는 포스트를 조회할 수 없다.")
+    @Test
+    void testGetCursorPageTamperedCursor() {
+        // given
+        savePosts(3);
+
+        String cursor = postService.getCursorPage(null, 1)
+                .nextCursor();
+        String signature = cursor.substring(cursor.indexOf('.'));
+        String forgedPayload = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(("POST|" + LocalDateTime.now() + "|1").getBytes(StandardCharsets.UTF_8));
+        String tampered = forgedPayload + signature;
+
+        // when
+        ThrowingCallable target = () -> postService.getCursorPage(tampered, 1);
+
+        // then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(target)
+                .withMessage(CursorExceptionMessage.INVALID_CURSOR);
+    }
+
     private CreatePostRequest generateCreateRequest(Long userId) {
         String title = faker.book().title();
         String content = faker.shakespeare().hamletQuote();
@@ -215,6 +681,16 @@ class PostServiceTest {
         }
     }
 
+    private Post savePost(User author, String title, String content) {
+        Post post = Post.builder()
+                .title(title)
+                .content(content)
+                .user(author)
+                .build();
+
+        return postRepository.save(post);
+    }
+
     private Post savePost() {
         User author = generateAuthor();
         userRepository.save(author);
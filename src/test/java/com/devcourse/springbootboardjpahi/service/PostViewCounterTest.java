@@ -0,0 +1,152 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devcourse.springbootboardjpahi.config.CacheConfig;
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.github.javafaker.Faker;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(Lifecycle.PER_CLASS)
+class PostViewCounterTest {
+
+    static final Faker faker = new Faker();
+
+    @Autowired
+    PostViewCounter postViewCounter;
+    @Autowired
+    PostService postService;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeAll
+    @AfterEach
+    void clear() {
+        postViewCounter.flush();
+        jdbcTemplate.update("delete from post_view_counts");
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames()
+                .forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @DisplayName("반영되지 않은 조회수도 응답에 포함한다.")
+    @Test
+    void testView() {
+        // given
+        Post post = savePost();
+        PostDetailResponse postDetailResponse = postService.findById(post.getId());
+
+        postViewCounter.increment(post.getId());
+
+        // when
+        PostDetailResponse viewed = postViewCounter.view(postDetailResponse);
+
+        // then
+        assertThat(viewed.viewCount()).isEqualTo(2);
+        assertThat(postViewCounter.pending(post.getId())).isEqualTo(2);
+    }
+
+    @DisplayName("모아 둔 조회수를 한 번에 반영해도 캐시된 상세 정보는 비우지 않는다.")
+    @Test
+    void testFlush() {
+        // given
+        Post post = savePost();
+        int views = faker.number().numberBetween(1, 100);
+        PostDetailResponse postDetailResponse = postService.findById(post.getId());
+
+        postViewCounter.count(postDetailResponse);
+
+        for (int i = 0; i < views; i++) {
+            postViewCounter.increment(post.getId());
+        }
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        Long persisted = jdbcTemplate.queryForObject(
+                "select view_count from post_view_counts where post_id = ?", Long.class, post.getId());
+
+        assertThat(persisted).isEqualTo(views);
+        assertThat(postViewCounter.pending(post.getId())).isZero();
+        assertThat(cacheManager.getCache(CacheConfig.POST_DETAIL).get(post.getId())).isNotNull();
+        assertThat(postViewCounter.count(postDetailResponse).viewCount()).isEqualTo(views);
+    }
+
+    @DisplayName("반영하는 도중에 늘어난 조회수도 잃지 않는다.")
+    @Test
+    void testFlushWhileIncrementing() throws Exception {
+        // given
+        Post post = savePost();
+        int threads = 4;
+        int viewsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    postViewCounter.increment(post.getId());
+                }
+
+                done.countDown();
+            });
+        }
+
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            postViewCounter.flush();
+        }
+
+        executor.shutdown();
+        postViewCounter.flush();
+
+        // then
+        Long persisted = jdbcTemplate.queryForObject(
+                "select view_count from post_view_counts where post_id = ?", Long.class, post.getId());
+
+        assertThat(persisted).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    private Post savePost() {
+        User author = User.builder()
+                .name(faker.name().firstName())
+                .age(faker.number().numberBetween(0, 120))
+                .hobby(faker.esports().game())
+                .build();
+        Post post = Post.builder()
+                .title(faker.book().title())
+                .content(faker.shakespeare().asYouLikeItQuote())
+                .user(userRepository.save(author))
+                .build();
+
+        return postRepository.save(post);
+    }
+}
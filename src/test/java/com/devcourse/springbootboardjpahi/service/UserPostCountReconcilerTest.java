@@ -0,0 +1,107 @@
+package com.devcourse.springbootboardjpahi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devcourse.springbootboardjpahi.domain.Post;
+import com.devcourse.springbootboardjpahi.domain.User;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
+import com.devcourse.springbootboardjpahi.repository.UserRepository;
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(Lifecycle.PER_CLASS)
+class UserPostCountReconcilerTest {
+
+    static final Faker faker = new Faker();
+
+    @Autowired
+    UserPostCountReconciler userPostCountReconciler;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeAll
+    @AfterEach
+    void clear() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("어긋난 사용자별 포스트 수를 실제 포스트 수로 맞춘다.")
+    @Test
+    void testReconcile() {
+        // given
+        User author = userRepository.save(generateAuthor());
+        User idle = userRepository.save(generateAuthor());
+        int postCount = faker.number().numberBetween(1, 10);
+
+        // 서비스를 거치지 않고 저장해 post_count 를 일부러 어긋나게 만든다.
+        for (int i = 0; i < postCount; i++) {
+            postRepository.save(Post.builder()
+                    .title(faker.book().title())
+                    .content(faker.shakespeare().hamletQuote())
+                    .user(author)
+                    .build());
+        }
+
+        userRepository.addPostCount(idle.getId(), 3);
+
+        // when
+        userPostCountReconciler.reconcile();
+
+        // then
+        assertThat(userRepository.findById(author.getId())).get()
+                .extracting(User::getPostCount)
+                .isEqualTo((long) postCount);
+        assertThat(userRepository.findById(idle.getId())).get()
+                .extracting(User::getPostCount)
+                .isEqualTo(0L);
+    }
+
+    @DisplayName("포스트 수가 이미 맞는 사용자는 고친 사용자 수에 세지 않는다.")
+    @Test
+    void testReconcileCountsOnlyDrifted() {
+        // given
+        User correct = userRepository.save(generateAuthor());
+        User drifted = userRepository.save(generateAuthor());
+
+        postRepository.save(Post.builder()
+                .title(faker.book().title())
+                .content(faker.shakespeare().hamletQuote())
+                .user(correct)
+                .build());
+        userRepository.addPostCount(correct.getId(), 1);
+        userRepository.addPostCount(drifted.getId(), 2);
+
+        long fromId = Math.min(correct.getId(), drifted.getId());
+        long toId = Math.max(correct.getId(), drifted.getId());
+
+        // when
+        int corrected = userRepository.reconcilePostCounts(fromId, toId);
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(userRepository.findById(drifted.getId())).get()
+                .extracting(User::getPostCount)
+                .isEqualTo(0L);
+    }
+
+    private User generateAuthor() {
+        return User.builder()
+                .name(faker.name().firstName())
+                .age(faker.number().numberBetween(0, 120))
+                .hobby(faker.esports().game())
+                .build();
+    }
+}
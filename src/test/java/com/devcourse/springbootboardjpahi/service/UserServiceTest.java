@@ -1,14 +1,25 @@
 package com.devcourse.springbootboardjpahi.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import com.devcourse.springbootboardjpahi.domain.Post;
 import com.devcourse.springbootboardjpahi.domain.User;
 import com.devcourse.springbootboardjpahi.dto.CreateUserRequest;
+import com.devcourse.springbootboardjpahi.dto.CursorResponse;
+import com.devcourse.springbootboardjpahi.dto.UserPostResponse;
 import com.devcourse.springbootboardjpahi.dto.UserResponse;
+import com.devcourse.springbootboardjpahi.exception.InvalidCursorException;
+import com.devcourse.springbootboardjpahi.message.CursorExceptionMessage;
+import com.devcourse.springbootboardjpahi.message.UserExceptionMessage;
+import com.devcourse.springbootboardjpahi.repository.PostRepository;
 import com.devcourse.springbootboardjpahi.repository.UserRepository;
 import com.github.javafaker.Faker;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -30,10 +41,13 @@ class UserServiceTest {
     UserService userService;
     @Autowired
     UserRepository userRepository;
+    @Autowired
+    PostRepository postRepository;
 
     @BeforeAll
     @AfterEach
     void tearDown() {
+        postRepository.deleteAll();
         userRepository.deleteAll();
     }
 
@@ -57,21 +71,132 @@ class UserServiceTest {
                 .hasFieldOrPropertyWithValue("createdAt", created.createdAt());
     }
 
-    @DisplayName("전체 유저 목록을 조회한다.")
+    @DisplayName("유저 목록을 커서로 끝까지 조회한다.")
+    @Test
+    void testGetCursorPage() {
+        // given
+        int userCount = faker.number().numberBetween(5, 10);
+        int pageSize = 3;
+
+        saveUsers(userCount);
+
+        // when
+        List<UserResponse> users = new ArrayList<>();
+        CursorResponse<UserResponse> page = userService.getCursorPage(null, pageSize);
+
+        users.addAll(page.content());
+
+        while (page.hasNext()) {
+            page = userService.getCursorPage(page.nextCursor(), pageSize);
+            users.addAll(page.content());
+        }
+
+        // then
+        assertThat(users).hasSize(userCount)
+                .extracting(UserResponse::id)
+                .doesNotHaveDuplicates()
+                .isSorted();
+    }
+
+    @DisplayName("전체 유저를 하나씩 순회한다.")
     @Test
-    void testFindAll() {
+    void testForEach() {
         // given
         int userCount = faker.number().numberBetween(5, 10);
 
         saveUsers(userCount);
 
         // when
-        List<UserResponse> users = userService.findAll();
+        List<UserResponse> users = new ArrayList<>();
+
+        userService.forEach(users::add);
 
         // then
         assertThat(users).hasSize(userCount);
     }
 
+    @DisplayName("유저가 작성한 포스트만 최신순으로 커서를 따라 끝까지 조회한다.")
+    @Test
+    void testGetPostCursorPage() {
+        // given
+        User author = saveUser();
+        User other = saveUser();
+        int postCount = faker.number().numberBetween(5, 10);
+        int pageSize = 3;
+
+        savePosts(author, postCount);
+        savePosts(other, postCount);
+
+        // when
+        List<UserPostResponse> posts = new ArrayList<>();
+        CursorResponse<UserPostResponse> page = userService.getPostCursorPage(author.getId(), null, pageSize);
+
+        posts.addAll(page.content());
+
+        while (page.hasNext()) {
+            page = userService.getPostCursorPage(author.getId(), page.nextCursor(), pageSize);
+            posts.addAll(page.content());
+        }
+
+        // then
+        List<Long> expectedIds = postRepository.findAll()
+                .stream()
+                .filter(post -> post.getUser().getId() == author.getId())
+                .map(Post::getId)
+                .toList();
+
+        assertThat(posts).extracting(UserPostResponse::id)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+    }
+
+    @DisplayName("유저 목록의 커서로는 유저의 포스트를 조회할 수 없다.")
+    @Test
+    void testGetPostCursorPageUserCursor() {
+        // given
+        User author = saveUser();
+
+        saveUser();
+        savePosts(author, 3);
+
+        String userCursor = userService.getCursorPage(null, 1)
+                .nextCursor();
+
+        // when
+        ThrowingCallable target = () -> userService.getPostCursorPage(author.getId(), userCursor, 1);
+
+        // then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(target)
+                .withMessage(CursorExceptionMessage.INVALID_CURSOR);
+    }
+
+    @DisplayName("포스트가 없는 유저는 빈 페이지를 반환한다.")
+    @Test
+    void testGetPostCursorPageEmpty() {
+        // given
+        User user = saveUser();
+
+        // when
+        CursorResponse<UserPostResponse> page = userService.getPostCursorPage(user.getId(), null, 10);
+
+        // then
+        assertThat(page.isEmpty()).isTrue();
+    }
+
+    @DisplayName("존재하지 않는 유저의 포스트는 조회할 수 없다.")
+    @Test
+    void testGetPostCursorPageNoSuchUser() {
+        // given
+        long fakeId = faker.number().randomNumber();
+
+        // when
+        ThrowingCallable target = () -> userService.getPostCursorPage(fakeId, null, 10);
+
+        // then
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(target)
+                .withMessage(UserExceptionMessage.NO_SUCH_USER);
+    }
+
     private CreateUserRequest generateCreateUserRequest() {
         String name = faker.name().firstName();
         int age = faker.number().numberBetween(0, 120);
@@ -80,7 +205,7 @@ class UserServiceTest {
         return new CreateUserRequest(name, age, hobby);
     }
 
-    private void saveUser() {
+    private User saveUser() {
         CreateUserRequest createUserRequest = generateCreateUserRequest();
         User user = User.builder()
                 .name(createUserRequest.name())
@@ -88,7 +213,19 @@ class UserServiceTest {
                 .hobby(createUserRequest.hobby())
                 .build();
 
-        userRepository.save(user);
+        return userRepository.save(user);
+    }
+
+    private void savePosts(User author, int count) {
+        for (int i = 0; i < count; i++) {
+            Post post = Post.builder()
+                    .title(faker.book().title())
+                    .content(faker.shakespeare().hamletQuote())
+                    .user(author)
+                    .build();
+
+            postRepository.save(post);
+        }
     }
 
     private void saveUsers(int count) {
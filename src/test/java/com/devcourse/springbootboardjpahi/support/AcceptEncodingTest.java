@@ -0,0 +1,34 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AcceptEncodingTest {
+
+    @DisplayName("gzip 을 받는 클라이언트에는 gzip 으로 보낸다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "gzip, deflate", "deflate, GZIP;q=0.5", "x-gzip", "*", "br, *;q=0.1"})
+    void testAcceptsGzip(String acceptEncoding) {
+        // when
+        boolean accepted = AcceptEncoding.acceptsGzip(acceptEncoding);
+
+        // then
+        assertThat(accepted).isTrue();
+    }
+
+    @DisplayName("gzip 을 거부했거나 받는다고 밝히지 않은 클라이언트에는 gzip 으로 보내지 않는다.")
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"gzip;q=0", "gzip; q=0.0, deflate", "identity", "*;q=0", "gzip;q=0, *", "gzip;q=abc"})
+    void testRejectsGzip(String acceptEncoding) {
+        // when
+        boolean accepted = AcceptEncoding.acceptsGzip(acceptEncoding);
+
+        // then
+        assertThat(accepted).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.devcourse.springbootboardjpahi.exception.InvalidCursorException;
+import com.devcourse.springbootboardjpahi.message.CursorExceptionMessage;
+import java.time.LocalDateTime;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    CursorCodec cursorCodec = new CursorCodec("test-cursor-secret");
+
+    @DisplayName("인코딩한 커서를 다시 디코딩한다.")
+    @Test
+    void testEncodeDecode() {
+        // given
+        Cursor expected = Cursor.ofPost(LocalDateTime.now(), 42L);
+
+        // when
+        Cursor actual = cursorCodec.decode(cursorCodec.encode(expected), Cursor.Kind.POST);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("아이디만 담은 유저 커서를 다시 디코딩한다.")
+    @Test
+    void testEncodeDecodeUser() {
+        // given
+        Cursor expected = Cursor.ofUser(42L);
+
+        // when
+        Cursor actual = cursorCodec.decode(cursorCodec.encode(expected), Cursor.Kind.USER);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("다른 종류의 목록에서 발급된 커서는 디코딩할 수 없다.")
+    @Test
+    void testDecodeOtherKind() {
+        // given
+        String token = cursorCodec.encode(Cursor.ofUser(42L));
+
+        // when
+        ThrowingCallable target = () -> cursorCodec.decode(token, Cursor.Kind.POST);
+
+        // then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(target)
+                .withMessage(CursorExceptionMessage.INVALID_CURSOR);
+    }
+
+    @DisplayName("다른 키로 서명된 커서는 디코딩할 수 없다.")
+    @Test
+    void testDecodeForeignSignature() {
+        // given
+        CursorCodec otherCodec = new CursorCodec("other-secret");
+        String token = otherCodec.encode(Cursor.ofPost(LocalDateTime.now(), 42L));
+
+        // when
+        ThrowingCallable target = () -> cursorCodec.decode(token, Cursor.Kind.POST);
+
+        // then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(target)
+                .withMessage(CursorExceptionMessage.INVALID_CURSOR);
+    }
+
+    @DisplayName("형식이 잘못된 커서는 디코딩할 수 없다.")
+    @Test
+    void testDecodeMalformed() {
+        // given
+        String token = "not-a-cursor";
+
+        // when
+        ThrowingCallable target = () -> cursorCodec.decode(token, Cursor.Kind.POST);
+
+        // then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(target)
+                .withMessage(CursorExceptionMessage.INVALID_CURSOR);
+    }
+}
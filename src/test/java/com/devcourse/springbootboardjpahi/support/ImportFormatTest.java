@@ -0,0 +1,38 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.devcourse.springbootboardjpahi.exception.UnsupportedImportFormatException;
+import com.devcourse.springbootboardjpahi.message.ImportExceptionMessage;
+import java.nio.file.Path;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class ImportFormatTest {
+
+    @DisplayName("콘텐츠 타입과 확장자로 형식을 정한다.")
+    @Test
+    void testOf() {
+        // when
+        ImportFormat byContentType = ImportFormat.of(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+        ImportFormat byPath = ImportFormat.of(Path.of("users.NDJSON"));
+
+        // then
+        assertThat(byContentType).isEqualTo(ImportFormat.CSV);
+        assertThat(byPath).isEqualTo(ImportFormat.NDJSON);
+    }
+
+    @DisplayName("지원하지 않는 형식이면 예외가 발생한다.")
+    @Test
+    void testOfUnsupported() {
+        // when
+        ThrowingCallable target = () -> ImportFormat.of(Path.of("users.json"));
+
+        // then
+        assertThatExceptionOfType(UnsupportedImportFormatException.class).isThrownBy(target)
+                .withMessage(ImportExceptionMessage.UNSUPPORTED_FORMAT);
+    }
+}
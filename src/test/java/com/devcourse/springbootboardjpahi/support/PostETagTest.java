@@ -0,0 +1,48 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devcourse.springbootboardjpahi.dto.PostDetailResponse;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostETagTest {
+
+    @DisplayName("조회수만 다른 상세 정보는 같은 약한 ETag를 가진다.")
+    @Test
+    void testOfIgnoresViewCount() {
+        // given
+        PostDetailResponse post = PostDetailResponse.builder()
+                .id(42L)
+                .updatedAt(LocalDateTime.now())
+                .viewCount(1L)
+                .build();
+
+        // when
+        String eTag = PostETag.of(post);
+        String viewedETag = PostETag.of(post.withViewCount(2));
+
+        // then
+        assertThat(eTag).startsWith("W/\"")
+                .isEqualTo(viewedETag);
+    }
+
+    @DisplayName("If-None-Match 는 약한 비교를 하므로 W/ 접두사와 관계없이 일치한다.")
+    @Test
+    void testMatches() {
+        // given
+        String eTag = PostETag.of(42L, LocalDateTime.now());
+        String strong = eTag.substring(2);
+
+        // when
+        boolean weakMatched = PostETag.matches(eTag, eTag);
+        boolean strongMatched = PostETag.matches("\"other\", " + strong, eTag);
+        boolean otherMatched = PostETag.matches("W/\"other\"", eTag);
+
+        // then
+        assertThat(weakMatched).isTrue();
+        assertThat(strongMatched).isTrue();
+        assertThat(otherMatched).isFalse();
+    }
+}
@@ -0,0 +1,37 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void resetQueryCount() {
+        QueryCountHolder.clear();
+    }
+
+    public static void assertQueryCount(long select, long insert, long update, long delete) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+
+        assertThat(count.getSelect()).as("select 문 수").isEqualTo(select);
+        assertThat(count.getInsert()).as("insert 문 수").isEqualTo(insert);
+        assertThat(count.getUpdate()).as("update 문 수").isEqualTo(update);
+        assertThat(count.getDelete()).as("delete 문 수").isEqualTo(delete);
+    }
+
+    public static void assertSelectCount(long expected) {
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).as("select 문 수").isEqualTo(expected);
+    }
+
+    public static void assertInsertCount(long expected) {
+        assertThat(QueryCountHolder.getGrandTotal().getInsert()).as("insert 문 수").isEqualTo(expected);
+    }
+
+    public static void assertUpdateCount(long expected) {
+        assertThat(QueryCountHolder.getGrandTotal().getUpdate()).as("update 문 수").isEqualTo(expected);
+    }
+}
@@ -0,0 +1,157 @@
+package com.devcourse.springbootboardjpahi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+    DataSource primary = mock(DataSource.class);
+    DataSource firstReplica = mock(DataSource.class);
+    DataSource secondReplica = mock(DataSource.class);
+
+    Connection primaryConnection = mock(Connection.class);
+    Connection firstReplicaConnection = mock(Connection.class);
+    Connection secondReplicaConnection = mock(Connection.class);
+
+    ReplicaRouter replicaRouter;
+    ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(firstReplica.getConnection()).willReturn(firstReplicaConnection);
+        given(secondReplica.getConnection()).willReturn(secondReplicaConnection);
+
+        replicaRouter = new ReplicaRouter(primary, List.of(firstReplica, secondReplica));
+        dataSource = new ReadWriteRoutingDataSource(replicaRouter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션이 아니면 프라이머리를 사용한다.")
+    @Test
+    void testWriteGoesToPrimary() throws SQLException {
+        // when
+        Connection connection = dataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카를 번갈아 사용한다.")
+    @Test
+    void testReadOnlyRoundRobin() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        List<Connection> connections = List.of(dataSource.getConnection(), dataSource.getConnection(),
+                dataSource.getConnection());
+
+        // then
+        assertThat(connections).containsExactly(firstReplicaConnection, secondReplicaConnection,
+                firstReplicaConnection);
+    }
+
+    @DisplayName("캐시를 채우는 조회는 읽기 전용 트랜잭션이어도 프라이머리를 사용하고, 끝나면 다시 레플리카를 사용한다.")
+    @Test
+    void testReadFromPrimary() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Connection cacheLoad = ReadWriteRoutingDataSource.readFromPrimary(this::connect);
+        Connection afterCacheLoad = dataSource.getConnection();
+
+        // then
+        assertThat(cacheLoad).isSameAs(primaryConnection);
+        assertThat(afterCacheLoad).isSameAs(firstReplicaConnection);
+    }
+
+    @DisplayName("커넥션을 얻지 못한 레플리카는 제외하고 다른 레플리카를 사용한다.")
+    @Test
+    void testFailedReplicaIsSkipped() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(firstReplica.getConnection()).willThrow(new SQLException("down"));
+
+        // when
+        Connection fallback = dataSource.getConnection();
+        Connection next = dataSource.getConnection();
+        Connection afterNext = dataSource.getConnection();
+
+        // then
+        assertThat(fallback).isSameAs(primaryConnection);
+        assertThat(next).isSameAs(secondReplicaConnection);
+        assertThat(afterNext).isSameAs(secondReplicaConnection);
+    }
+
+    @DisplayName("계정을 지정해도 같은 규칙으로 고른 풀에 계정 정보를 넘겨 커넥션을 얻는다.")
+    @Test
+    void testGetConnectionWithCredentials() throws SQLException {
+        // given
+        Connection primaryUserConnection = mock(Connection.class);
+        Connection replicaUserConnection = mock(Connection.class);
+
+        given(primary.getConnection("user", "secret")).willReturn(primaryUserConnection);
+        given(firstReplica.getConnection("user", "secret")).willReturn(replicaUserConnection);
+
+        // when
+        Connection write = dataSource.getConnection("user", "secret");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection read = dataSource.getConnection("user", "secret");
+
+        // then
+        assertThat(write).isSameAs(primaryUserConnection);
+        assertThat(read).isSameAs(replicaUserConnection);
+    }
+
+    @DisplayName("모든 레플리카가 내려가면 프라이머리를 사용하고, 상태 확인을 통과하면 다시 레플리카를 사용한다.")
+    @Test
+    void testFallbackToPrimaryAndRecover() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(firstReplica.getConnection()).willThrow(new SQLException("down"));
+        given(secondReplica.getConnection()).willThrow(new SQLException("down"));
+
+        replicaRouter.checkHealth();
+
+        Connection whileDown = dataSource.getConnection();
+
+        given(firstReplica.getConnection()).willReturn(firstReplicaConnection);
+        given(firstReplicaConnection.isValid(1)).willReturn(true);
+
+        // when
+        replicaRouter.checkHealth();
+
+        Connection afterRecovery = dataSource.getConnection();
+
+        // then
+        assertThat(whileDown).isSameAs(primaryConnection);
+        assertThat(afterRecovery).isSameAs(firstReplicaConnection);
+    }
+
+    private Connection connect() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}